@@ -0,0 +1,77 @@
+package com.vev.boundedIntQueue;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Custo de uma inserção seguida de uma remoção em uma única thread, com a fila
+// mantida em um nível de ocupação fixo (vazia, pela metade ou quase cheia).
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BoundedIntQueueBenchmark {
+    @Param({"array", "spsc", "mpmc", "offheap", "segmented"})
+    public String implementation;
+    
+    @Param({"16", "1024", "65536"})
+    public int capacity;
+    
+    // porcentagem da capacidade ocupada antes da medição
+    @Param({"0", "50", "90"})
+    public int fillPercent;
+    
+    private BoundedIntQueue queue;
+    
+    @Setup
+    public void setUp() {
+        queue = create(implementation, capacity);
+        int fill = (int) ((long) capacity * fillPercent / 100);
+        for (int i = 0; i < fill; i++) {
+            queue.addLast(i);
+        }
+    }
+    
+    @TearDown
+    public void tearDown() throws Exception {
+        if (queue instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+    
+    @Benchmark
+    public int addLastRemoveFirst() {
+        queue.addLast(42);
+        return queue.removeFirst();
+    }
+    
+    @Benchmark
+    public int offerPoll() {
+        queue.offer(42);
+        return queue.poll(-1);
+    }
+    
+    static BoundedIntQueue create(String implementation, int capacity) {
+        return switch (implementation) {
+            case "array" -> new BoundedIntQueueImpl(capacity);
+            case "spsc" -> new SpscBoundedIntQueue(capacity);
+            case "mpmc" -> new MpmcBoundedIntQueue(capacity);
+            case "offheap" -> new OffHeapBoundedIntQueue(capacity);
+            case "segmented" -> new SegmentedBoundedIntQueue(capacity);
+            default -> throw new IllegalArgumentException("Unknown implementation: " + implementation);
+        };
+    }
+}
@@ -0,0 +1,119 @@
+package com.vev.boundedIntQueue;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Produtores e consumidores concorrentes sobre uma única fila compartilhada.
+// "locked" é BoundedIntQueueImpl protegida por synchronized, para comparação.
+// offer e poll que falham (fila cheia ou vazia) também contam como operação.
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Group)
+public class ContendedQueueBenchmark {
+    @Param({"locked", "mpmc"})
+    public String implementation;
+    
+    @Param({"64", "4096"})
+    public int capacity;
+    
+    private BoundedIntQueue queue;
+    
+    @Setup
+    public void setUp() {
+        queue = implementation.equals("locked")
+                ? new SynchronizedQueue(new BoundedIntQueueImpl(capacity))
+                : BoundedIntQueueBenchmark.create(implementation, capacity);
+    }
+    
+    @Benchmark
+    @Group("oneToOne")
+    @GroupThreads(1)
+    public boolean oneToOneOffer() {
+        return queue.offer(42);
+    }
+    
+    @Benchmark
+    @Group("oneToOne")
+    @GroupThreads(1)
+    public int oneToOnePoll() {
+        return queue.poll(-1);
+    }
+    
+    @Benchmark
+    @Group("fourToFour")
+    @GroupThreads(4)
+    public boolean fourToFourOffer() {
+        return queue.offer(42);
+    }
+    
+    @Benchmark
+    @Group("fourToFour")
+    @GroupThreads(4)
+    public int fourToFourPoll() {
+        return queue.poll(-1);
+    }
+    
+    private static final class SynchronizedQueue implements BoundedIntQueue {
+        private final BoundedIntQueue queue;
+        
+        SynchronizedQueue(BoundedIntQueue queue) {
+            this.queue = queue;
+        }
+        
+        @Override
+        public synchronized int capacity() {
+            return queue.capacity();
+        }
+        
+        @Override
+        public synchronized int size() {
+            return queue.size();
+        }
+        
+        @Override
+        public synchronized boolean isEmpty() {
+            return queue.isEmpty();
+        }
+        
+        @Override
+        public synchronized boolean isFull() {
+            return queue.isFull();
+        }
+        
+        @Override
+        public synchronized void addLast(int value) {
+            queue.addLast(value);
+        }
+        
+        @Override
+        public synchronized int removeFirst() {
+            return queue.removeFirst();
+        }
+        
+        @Override
+        public synchronized boolean offer(int value) {
+            return queue.offer(value);
+        }
+        
+        @Override
+        public synchronized int poll(int sentinel) {
+            return queue.poll(sentinel);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.vev.boundedIntQueue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Custo de uma inserção seguida de uma remoção na fila persistente, para cada
+// política de force(): o preço da durabilidade contra a fila em memória.
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MappedBoundedIntQueueBenchmark {
+    @Param({"never", "every1000", "after10ms"})
+    public String policy;
+    
+    @Param({"1024", "1048576"})
+    public int capacity;
+    
+    private Path file;
+    private MappedBoundedIntQueue queue;
+    
+    @Setup
+    public void setUp() throws IOException {
+        file = Files.createTempFile("queue", ".dat");
+        MappedBoundedIntQueue.ForcePolicy forcePolicy = switch (policy) {
+            case "never" -> MappedBoundedIntQueue.ForcePolicy.never();
+            case "every1000" -> MappedBoundedIntQueue.ForcePolicy.everyOperations(1000);
+            case "after10ms" -> MappedBoundedIntQueue.ForcePolicy.onFirstOperationAfter(10, TimeUnit.MILLISECONDS);
+            default -> throw new IllegalArgumentException("Unknown policy: " + policy);
+        };
+        queue = new MappedBoundedIntQueue(file, capacity, forcePolicy);
+        for (int i = 0; i < capacity / 2; i++) {
+            queue.addLast(i);
+        }
+    }
+    
+    @TearDown
+    public void tearDown() throws IOException {
+        queue.close();
+        Files.deleteIfExists(file);
+    }
+    
+    @Benchmark
+    public int addLastRemoveFirst() {
+        queue.addLast(42);
+        return queue.removeFirst();
+    }
+}
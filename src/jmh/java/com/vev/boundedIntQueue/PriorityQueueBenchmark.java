@@ -0,0 +1,92 @@
+package com.vev.boundedIntQueue;
+
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Uma inserção seguida da retirada do menor elemento com o heap mantido
+// pela metade: heap binário e 4-ário sobre int[] contra PriorityQueue<Integer>.
+// heapify mede a construção do heap a partir de um array inteiro.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PriorityQueueBenchmark {
+    @Param({"1024", "1048576"})
+    public int capacity;
+    
+    private BoundedIntPriorityQueue binary;
+    private BoundedIntPriorityQueue quaternary;
+    private PriorityQueue<Integer> boxed;
+    private int[] values;
+    private int next;
+    
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        values = new int[capacity];
+        for (int i = 0; i < capacity; i++) {
+            values[i] = random.nextInt();
+        }
+        binary = new BoundedIntPriorityQueue(capacity, 2);
+        quaternary = new BoundedIntPriorityQueue(capacity, 4);
+        boxed = new PriorityQueue<>(capacity);
+        for (int i = 0; i < capacity / 2; i++) {
+            binary.addLast(values[i]);
+            quaternary.addLast(values[i]);
+            boxed.add(values[i]);
+        }
+    }
+    
+    private int nextValue() {
+        int value = values[next];
+        next = next + 1 == values.length ? 0 : next + 1;
+        return value;
+    }
+    
+    @Benchmark
+    public int binary() {
+        binary.addLast(nextValue());
+        return binary.removeFirst();
+    }
+    
+    @Benchmark
+    public int quaternary() {
+        quaternary.addLast(nextValue());
+        return quaternary.removeFirst();
+    }
+    
+    @Benchmark
+    public int boxed() {
+        boxed.add(nextValue());
+        return boxed.poll();
+    }
+    
+    @Benchmark
+    public BoundedIntPriorityQueue heapifyBinary() {
+        BoundedIntPriorityQueue heap = new BoundedIntPriorityQueue(capacity, 2);
+        heap.addAll(values, 0, capacity);
+        return heap;
+    }
+    
+    @Benchmark
+    public BoundedIntPriorityQueue heapifyQuaternary() {
+        BoundedIntPriorityQueue heap = new BoundedIntPriorityQueue(capacity, 4);
+        heap.addAll(values, 0, capacity);
+        return heap;
+    }
+}
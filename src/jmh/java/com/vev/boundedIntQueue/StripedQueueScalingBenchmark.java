@@ -0,0 +1,95 @@
+package com.vev.boundedIntQueue;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Escalabilidade de 1 a 64 threads sobre uma única fila compartilhada: cada
+// operação é um offer seguido de um poll, então toda thread é produtora e
+// consumidora. "mpmc" é uma única MpmcBoundedIntQueue; "striped" é
+// StripedBoundedIntQueue com uma faixa por processador. O throughput total
+// deve crescer com as threads na versão com faixas e estagnar na outra.
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StripedQueueScalingBenchmark {
+    @Param({"mpmc", "striped"})
+    public String implementation;
+    
+    @Param({"4096"})
+    public int capacity;
+    
+    private BoundedIntQueue queue;
+    
+    @Setup
+    public void setUp() {
+        queue = implementation.equals("striped")
+                ? new StripedBoundedIntQueue(capacity)
+                : BoundedIntQueueBenchmark.create(implementation, capacity);
+        // meio cheia, para que offer e poll raramente falhem
+        for (int i = 0; i < capacity / 2; i++) {
+            queue.addLast(i);
+        }
+    }
+    
+    private int offerPoll() {
+        queue.offer(42);
+        return queue.poll(-1);
+    }
+    
+    @Benchmark
+    @Threads(1)
+    public int threads01() {
+        return offerPoll();
+    }
+    
+    @Benchmark
+    @Threads(2)
+    public int threads02() {
+        return offerPoll();
+    }
+    
+    @Benchmark
+    @Threads(4)
+    public int threads04() {
+        return offerPoll();
+    }
+    
+    @Benchmark
+    @Threads(8)
+    public int threads08() {
+        return offerPoll();
+    }
+    
+    @Benchmark
+    @Threads(16)
+    public int threads16() {
+        return offerPoll();
+    }
+    
+    @Benchmark
+    @Threads(32)
+    public int threads32() {
+        return offerPoll();
+    }
+    
+    @Benchmark
+    @Threads(64)
+    public int threads64() {
+        return offerPoll();
+    }
+}
@@ -0,0 +1,75 @@
+package com.vev.calculator;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// CachingCalculator contra Calculator em um fluxo de expressões com
+// frequência de cauda longa (aproximadamente Zipf sobre distinctExpressions).
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CachingCalculatorBenchmark {
+    @Param({"1024", "65536"})
+    public int distinctExpressions;
+    
+    @Param({"256", "4096"})
+    public int cacheSize;
+    
+    @Param({"8", "64"})
+    public int terms;
+    
+    private static final int STREAM_LENGTH = 1 << 16;
+    
+    private Calculator calculator;
+    private CachingCalculator cached;
+    private String[] stream;
+    private int next;
+    
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        String[] distinct = new String[distinctExpressions];
+        for (int i = 0; i < distinct.length; i++) {
+            distinct[i] = CalculatorBenchmark.expression(terms, random);
+        }
+        stream = new String[STREAM_LENGTH];
+        for (int i = 0; i < stream.length; i++) {
+            // índice com distribuição aproximadamente Zipf: P(k) ~ 1/k
+            int rank = (int) Math.pow(distinct.length, random.nextDouble()) - 1;
+            stream[i] = distinct[rank];
+        }
+        calculator = new Calculator();
+        cached = new CachingCalculator(cacheSize);
+    }
+    
+    @Benchmark
+    public int uncached() {
+        return calculator.evaluate(nextExpression());
+    }
+    
+    @Benchmark
+    public int cached() {
+        return cached.evaluate(nextExpression());
+    }
+    
+    private String nextExpression() {
+        String expression = stream[next];
+        next = (next + 1) & (STREAM_LENGTH - 1);
+        return expression;
+    }
+}
@@ -0,0 +1,70 @@
+package com.vev.calculator;
+
+import java.math.BigInteger;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Tempo de Calculator.evaluate em expressões com quantidades diferentes de parcelas.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CalculatorBenchmark {
+    @Param({"1", "8", "64", "1024", "200000"})
+    public int terms;
+    
+    private final Calculator calculator = new Calculator();
+    private final Calculator sequential = new Calculator(Integer.MAX_VALUE);
+    private String expression;
+    
+    @Setup
+    public void setUp() {
+        expression = expression(terms, new Random(42));
+    }
+    
+    @Benchmark
+    public int evaluate() {
+        return calculator.evaluate(expression);
+    }
+    
+    // sem o modo paralelo, para comparar com evaluate nas expressões longas
+    @Benchmark
+    public int evaluateSequential() {
+        return sequential.evaluate(expression);
+    }
+    
+    @Benchmark
+    public long evaluateLong() {
+        return calculator.evaluateLong(expression);
+    }
+    
+    @Benchmark
+    public BigInteger evaluateExact() {
+        return calculator.evaluateExact(expression);
+    }
+    
+    static String expression(int terms, Random random) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < terms; i++) {
+            if (i > 0) {
+                builder.append('+');
+            }
+            builder.append(random.nextInt(100_000));
+        }
+        return builder.toString();
+    }
+}
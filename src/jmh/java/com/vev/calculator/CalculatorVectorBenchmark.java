@@ -0,0 +1,49 @@
+package com.vev.calculator;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Calculator.evaluateAscii(byte[]) com e sem o módulo jdk.incubator.vector:
+// o mesmo código roda em dois forks, e só o primeiro usa o caminho vetorizado.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Benchmark)
+public class CalculatorVectorBenchmark {
+    @Param({"8", "64", "1024"})
+    public int terms;
+    
+    private final Calculator calculator = new Calculator(Integer.MAX_VALUE);
+    private byte[] expression;
+    
+    @Setup
+    public void setUp() {
+        expression = CalculatorBenchmark.expression(terms, new Random(42)).getBytes(StandardCharsets.US_ASCII);
+    }
+    
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+    public int vector() {
+        return calculator.evaluateAscii(expression, 0, expression.length);
+    }
+    
+    @Benchmark
+    @Fork(1)
+    public int scalar() {
+        return calculator.evaluateAscii(expression, 0, expression.length);
+    }
+}
@@ -0,0 +1,52 @@
+package com.vev.calculator;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Compilação e avaliação de CompiledExpression; evaluate deve aparecer com
+// taxa de alocação zero no profiler de GC.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CompiledExpressionBenchmark {
+    @Param({"a+b", "(price*quantity-discount)/count+fee*2", "((a+b)*(c-d)+(e*f-g)/(h+1))*(a-b)-c*d*e"})
+    public String formula;
+    
+    private final Calculator calculator = new Calculator();
+    private CompiledExpression compiled;
+    private int[] values;
+    
+    @Setup
+    public void setUp() {
+        compiled = calculator.compile(formula);
+        values = new int[compiled.variables().size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = 3 + i * 7;
+        }
+    }
+    
+    @Benchmark
+    public CompiledExpression compile() {
+        return calculator.compile(formula);
+    }
+    
+    @Benchmark
+    public int evaluate() {
+        values[0]++;
+        return compiled.evaluate(values);
+    }
+}
@@ -0,0 +1,87 @@
+package com.vev.calculator;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Avaliação de uma expressão sobre colunas: linha a linha com evaluate(int[])
+// contra a avaliação em blocos (sequencial e paralela). O tempo é por chamada,
+// cobrindo todas as linhas.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CompiledExpressionColumnsBenchmark {
+    @Param({"a+b", "(a*b-c)+a*2", "((a+b)*(c-d)+(e*f-g))*(a-b)-c*d*e"})
+    public String formula;
+    
+    @Param({"1000", "1000000"})
+    public int rows;
+    
+    private CompiledExpression compiled;
+    private int[][] columns;
+    private long[][] longColumns;
+    private int[] results;
+    private long[] longResults;
+    private int[] values;
+    
+    @Setup
+    public void setUp() {
+        compiled = new Calculator().compile(formula);
+        int variables = compiled.variables().size();
+        Random random = new Random(42);
+        columns = new int[variables][rows];
+        longColumns = new long[variables][rows];
+        for (int i = 0; i < variables; i++) {
+            for (int row = 0; row < rows; row++) {
+                columns[i][row] = random.nextInt(1000);
+                longColumns[i][row] = columns[i][row];
+            }
+        }
+        results = new int[rows];
+        longResults = new long[rows];
+        values = new int[variables];
+    }
+    
+    @Benchmark
+    public int[] rowByRow() {
+        for (int row = 0; row < rows; row++) {
+            for (int i = 0; i < values.length; i++) {
+                values[i] = columns[i][row];
+            }
+            results[row] = compiled.evaluate(values);
+        }
+        return results;
+    }
+    
+    @Benchmark
+    public int[] columns() {
+        compiled.evaluate(columns, results);
+        return results;
+    }
+    
+    @Benchmark
+    public int[] columnsParallel() {
+        compiled.evaluateParallel(columns, results);
+        return results;
+    }
+    
+    @Benchmark
+    public long[] longColumns() {
+        compiled.evaluate(longColumns, longResults);
+        return longResults;
+    }
+}
@@ -0,0 +1,82 @@
+package com.vev.romanNumeral;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Conversão de uma coluna de numerais: Strings decodificadas uma a uma contra
+// a leitura direta dos bytes, sequencial e paralela. O tempo é por coluna.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BulkRomanNumeralBenchmark {
+    @Param({"10000", "1000000"})
+    public int rows;
+    
+    private final RomanNumeral romanNumeral = new RomanNumeral();
+    private final BulkRomanNumeral bulk = new BulkRomanNumeral();
+    private String[] numerals;
+    private ByteBuffer buffer;
+    
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        numerals = new String[rows];
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < rows; i++) {
+            numerals[i] = romanNumeral.toRoman(random.nextInt(RomanNumeral.MAX_VALUE) + 1);
+            sb.append(numerals[i]).append('\n');
+        }
+        byte[] bytes = sb.toString().getBytes(StandardCharsets.US_ASCII);
+        buffer = ByteBuffer.allocateDirect(bytes.length).put(bytes).flip();
+    }
+    
+    @Benchmark
+    public int[] decodeStrings() {
+        // o que a leitura linha a linha faz hoje: uma String por registro
+        int[] results = new int[rows];
+        int start = 0;
+        for (int i = 0; i < rows; i++) {
+            int end = start;
+            while (buffer.get(end) != '\n') {
+                end++;
+            }
+            byte[] record = new byte[end - start];
+            buffer.get(start, record);
+            results[i] = romanNumeral.convert(new String(record, StandardCharsets.US_ASCII));
+            start = end + 1;
+        }
+        return results;
+    }
+    
+    @Benchmark
+    public int[] convertAll() {
+        return romanNumeral.convertAll(numerals);
+    }
+    
+    @Benchmark
+    public int[] stream() {
+        return bulk.stream(buffer).toArray();
+    }
+    
+    @Benchmark
+    public int[] parallelStream() {
+        return bulk.stream(buffer).parallel().toArray();
+    }
+}
@@ -0,0 +1,75 @@
+package com.vev.romanNumeral;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Tempo de RomanNumeral.convert e convertStrict para numerais de 1 a 15
+// caracteres (a conversão estrita não deve ser mais lenta), e de
+// toRoman/appendTo contra a montagem por laço de appends.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RomanNumeralBenchmark {
+    @Param({"X", "XIV", "MCMXCIV", "MMMDCCCLXXXVIII"})
+    public String numeral;
+    
+    private static final int[] VALUES = {1000, 900, 500, 400, 100, 90, 50, 40, 10, 9, 5, 4, 1};
+    private static final String[] SYMBOLS = {"M", "CM", "D", "CD", "C", "XC", "L", "XL", "X", "IX", "V", "IV", "I"};
+    
+    private final RomanNumeral romanNumeral = new RomanNumeral();
+    private final StringBuilder sb = new StringBuilder();
+    private int value;
+    
+    @Setup
+    public void setUp() {
+        value = romanNumeral.convert(numeral);
+    }
+    
+    @Benchmark
+    public int convert() {
+        return romanNumeral.convert(numeral);
+    }
+    
+    @Benchmark
+    public int convertStrict() {
+        return romanNumeral.convertStrict(numeral);
+    }
+    
+    @Benchmark
+    public String toRoman() {
+        return romanNumeral.toRoman(value);
+    }
+    
+    @Benchmark
+    public StringBuilder appendTo() {
+        sb.setLength(0);
+        return romanNumeral.appendTo(sb, value);
+    }
+    
+    @Benchmark
+    public String appendLoop() {
+        StringBuilder result = new StringBuilder();
+        int rest = value;
+        for (int i = 0; i < VALUES.length; i++) {
+            while (rest >= VALUES[i]) {
+                result.append(SYMBOLS[i]);
+                rest -= VALUES[i];
+            }
+        }
+        return result.toString();
+    }
+}
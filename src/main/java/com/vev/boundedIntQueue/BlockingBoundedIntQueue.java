@@ -0,0 +1,142 @@
+package com.vev.boundedIntQueue;
+
+import java.util.concurrent.TimeUnit;
+
+// Acrescenta operações que esperam (put, take e offer/poll com timeout) sobre
+// uma fila thread-safe. A espera é feita pela WaitStrategy, sem monitores,
+// então funciona com threads virtuais sem prender o carrier.
+public class BlockingBoundedIntQueue implements BoundedIntQueue {
+    private final BoundedIntQueue queue;
+    private final WaitStrategy waitStrategy;
+    
+    public BlockingBoundedIntQueue(int capacity) {
+        this(capacity, WaitStrategy.PARK_WITH_BACKOFF);
+    }
+    
+    public BlockingBoundedIntQueue(int capacity, WaitStrategy waitStrategy) {
+        this(new MpmcBoundedIntQueue(capacity), waitStrategy);
+    }
+    
+    // queue precisa ser segura para os produtores e consumidores que vão
+    // usá-la (por exemplo SpscBoundedIntQueue para um produtor e um consumidor)
+    public BlockingBoundedIntQueue(BoundedIntQueue queue, WaitStrategy waitStrategy) {
+        if (queue == null || waitStrategy == null) {
+            throw new NullPointerException();
+        }
+        this.queue = queue;
+        this.waitStrategy = waitStrategy;
+    }
+    
+    @Override
+    public int capacity() {
+        return queue.capacity();
+    }
+    
+    @Override
+    public int size() {
+        return queue.size();
+    }
+    
+    @Override
+    public boolean isEmpty() {
+        return queue.isEmpty();
+    }
+    
+    @Override
+    public boolean isFull() {
+        return queue.isFull();
+    }
+    
+    @Override
+    public void addLast(int value) {
+        queue.addLast(value);
+    }
+    
+    @Override
+    public int removeFirst() {
+        return queue.removeFirst();
+    }
+    
+    @Override
+    public boolean offer(int value) {
+        return queue.offer(value);
+    }
+    
+    @Override
+    public int poll(int sentinel) {
+        return queue.poll(sentinel);
+    }
+    
+    @Override
+    public int addAll(int[] src, int off, int len) {
+        return queue.addAll(src, off, len);
+    }
+    
+    @Override
+    public int drainTo(int[] dst, int off, int max) {
+        return queue.drainTo(dst, off, max);
+    }
+    
+    // insere no fim da fila, esperando enquanto ela estiver cheia
+    public void put(int value) throws InterruptedException {
+        for (int attempt = 0; !queue.offer(value); attempt = nextAttempt(attempt)) {
+            checkInterrupted();
+            waitStrategy.idle(attempt);
+        }
+    }
+    
+    // retira o primeiro da fila, esperando enquanto ela estiver vazia
+    public int take() throws InterruptedException {
+        for (int attempt = 0; ; attempt = nextAttempt(attempt)) {
+            // removeFirst em vez de poll(sentinel): qualquer int pode ser
+            // um elemento, e as exceções das filas não capturam a pilha
+            try {
+                return queue.removeFirst();
+            } catch (QueueEmptyException e) {
+                checkInterrupted();
+                waitStrategy.idle(attempt);
+            }
+        }
+    }
+    
+    // como put, mas desiste e retorna false depois de timeout
+    public boolean offer(int value, long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        for (int attempt = 0; !queue.offer(value); attempt = nextAttempt(attempt)) {
+            checkInterrupted();
+            if (deadline - System.nanoTime() <= 0) {
+                return false;
+            }
+            waitStrategy.idle(attempt);
+        }
+        return true;
+    }
+    
+    // como take, mas desiste e retorna sentinel depois de timeout
+    public int poll(int sentinel, long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        for (int attempt = 0; ; attempt = nextAttempt(attempt)) {
+            try {
+                return queue.removeFirst();
+            } catch (QueueEmptyException e) {
+                checkInterrupted();
+                if (deadline - System.nanoTime() <= 0) {
+                    return sentinel;
+                }
+                waitStrategy.idle(attempt);
+            }
+        }
+    }
+    
+    // satura em vez de estourar para negativo, o que reiniciaria as fases de
+    // spin e yield da estratégia numa espera longa
+    private static int nextAttempt(int attempt) {
+        return attempt < Integer.MAX_VALUE ? attempt + 1 : attempt;
+    }
+    
+    private static void checkInterrupted() throws InterruptedException {
+        if (Thread.interrupted()) {
+            throw new InterruptedException();
+        }
+    }
+}
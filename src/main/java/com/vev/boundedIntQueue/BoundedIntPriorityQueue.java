@@ -0,0 +1,184 @@
+package com.vev.boundedIntQueue;
+
+import java.util.Objects;
+
+// Fila de prioridade limitada (não thread-safe) sobre um heap mínimo em int[]:
+// removeFirst retira sempre o menor elemento, não o mais antigo. O heap pode
+// ser binário ou 4-ário; o 4-ário tem metade da altura e os quatro filhos de
+// um nó ficam na mesma linha de cache, o que costuma compensar as comparações
+// extras em heaps grandes.
+public class BoundedIntPriorityQueue implements BoundedIntQueue {
+    private final int capacity;
+    private final int[] heap;
+    // log2 da aridade: os filhos de i ficam em (i << shift) + 1 até (i << shift) + aridade
+    private final int shift;
+    private int size;
+    
+    public BoundedIntPriorityQueue(int capacity) {
+        this(capacity, 2);
+    }
+    
+    // arity deve ser 2 ou 4
+    public BoundedIntPriorityQueue(int capacity, int arity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        if (arity != 2 && arity != 4) {
+            throw new IllegalArgumentException("Arity must be 2 or 4");
+        }
+        this.capacity = capacity;
+        this.heap = new int[capacity];
+        this.shift = Integer.numberOfTrailingZeros(arity);
+    }
+    
+    @Override
+    public int capacity() {
+        return capacity;
+    }
+    
+    @Override
+    public int size() {
+        return size;
+    }
+    
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+    
+    @Override
+    public boolean isFull() {
+        return size >= capacity;
+    }
+    
+    public int arity() {
+        return 1 << shift;
+    }
+    
+    // insere o elemento na posição dada pela prioridade (gera
+    // QueueFullException se a fila está cheia)
+    @Override
+    public void addLast(int value) {
+        if (!offer(value)) {
+            throw QueueFullException.INSTANCE;
+        }
+    }
+    
+    // retira o menor elemento (gera QueueEmptyException se a fila está vazia)
+    @Override
+    public int removeFirst() {
+        if (isEmpty()) {
+            throw QueueEmptyException.INSTANCE;
+        }
+        int min = heap[0];
+        int last = heap[--size];
+        if (size > 0) {
+            siftDown(0, last);
+        }
+        return min;
+    }
+    
+    // menor elemento sem retirá-lo (gera QueueEmptyException se a fila está vazia)
+    public int peekFirst() {
+        if (isEmpty()) {
+            throw QueueEmptyException.INSTANCE;
+        }
+        return heap[0];
+    }
+    
+    @Override
+    public boolean offer(int value) {
+        if (isFull()) {
+            return false;
+        }
+        siftUp(size++, value);
+        return true;
+    }
+    
+    @Override
+    public int poll(int sentinel) {
+        return isEmpty() ? sentinel : removeFirst();
+    }
+    
+    // Quando o lote é maior que o heap atual, os elementos são copiados para o
+    // fim do array e o heap é reconstruído de baixo para cima (Floyd), em
+    // O(n) em vez de O(k log n).
+    @Override
+    public int addAll(int[] src, int off, int len) {
+        Objects.checkFromIndexSize(off, len, src.length);
+        int count = Math.min(len, capacity - size);
+        if (count > size) {
+            System.arraycopy(src, off, heap, size, count);
+            size += count;
+            heapify();
+        } else {
+            for (int i = 0; i < count; i++) {
+                siftUp(size++, src[off + i]);
+            }
+        }
+        return count;
+    }
+    
+    // retira até max elementos em ordem crescente
+    @Override
+    public int drainTo(int[] dst, int off, int max) {
+        Objects.checkFromIndexSize(off, max, dst.length);
+        int count = Math.min(max, size);
+        for (int i = 0; i < count; i++) {
+            dst[off + i] = heap[0];
+            int last = heap[--size];
+            if (size > 0) {
+                siftDown(0, last);
+            }
+        }
+        return count;
+    }
+    
+    private void heapify() {
+        for (int i = (size - 2) >> shift; i >= 0; i--) {
+            siftDown(i, heap[i]);
+        }
+    }
+    
+    // sobe value a partir de index, deslocando os pais maiores para baixo
+    private void siftUp(int index, int value) {
+        int[] heap = this.heap;
+        while (index > 0) {
+            int parent = (index - 1) >>> shift;
+            int parentValue = heap[parent];
+            if (parentValue <= value) {
+                break;
+            }
+            heap[index] = parentValue;
+            index = parent;
+        }
+        heap[index] = value;
+    }
+    
+    // desce value a partir de index, subindo o menor filho enquanto ele for menor
+    private void siftDown(int index, int value) {
+        int[] heap = this.heap;
+        int size = this.size;
+        int arity = 1 << shift;
+        // último nó com filhos; comparar com ele evita estourar index << shift
+        int lastParent = (size - 2) >> shift;
+        while (index <= lastParent) {
+            int first = (index << shift) + 1;
+            int end = Math.min(first + arity, size);
+            int child = first;
+            int childValue = heap[first];
+            for (int c = first + 1; c < end; c++) {
+                if (heap[c] < childValue) {
+                    child = c;
+                    childValue = heap[c];
+                }
+            }
+            if (value <= childValue) {
+                break;
+            }
+            heap[index] = childValue;
+            index = child;
+        }
+        heap[index] = value;
+    }
+}
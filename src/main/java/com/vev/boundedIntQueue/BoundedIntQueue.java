@@ -1,5 +1,7 @@
 package com.vev.boundedIntQueue;
 
+import java.util.Objects;
+
 public interface BoundedIntQueue {
     // retorna a capacidade da fila
     int capacity();
@@ -15,4 +17,44 @@ public interface BoundedIntQueue {
     // retira o primeiro da fila (gera
     // QueueEmptyException se a fila está vazia)
     int removeFirst();
+    // insere um elemento no fim da fila; retorna false em vez
+    // de gerar QueueFullException se a fila está cheia
+    default boolean offer(int newElement) {
+        if (isFull()) {
+            return false;
+        }
+        addLast(newElement);
+        return true;
+    }
+    // retira o primeiro da fila; retorna sentinel em vez de gerar
+    // QueueEmptyException se a fila está vazia (se sentinel também pode ser
+    // um elemento válido, use drainTo(dst, off, 1), que retorna 0 ou 1)
+    default int poll(int sentinel) {
+        if (isEmpty()) {
+            return sentinel;
+        }
+        return removeFirst();
+    }
+    // insere até len elementos de src, a partir de off, no fim da fila,
+    // parando quando ela enche; retorna quantos foram inseridos
+    default int addAll(int[] src, int off, int len) {
+        Objects.checkFromIndexSize(off, len, src.length);
+        int added = 0;
+        while (added < len && !isFull()) {
+            addLast(src[off + added]);
+            added++;
+        }
+        return added;
+    }
+    // retira até max elementos do início da fila para dst, a partir de off;
+    // retorna quantos foram retirados
+    default int drainTo(int[] dst, int off, int max) {
+        Objects.checkFromIndexSize(off, max, dst.length);
+        int removed = 0;
+        while (removed < max && !isEmpty()) {
+            dst[off + removed] = removeFirst();
+            removed++;
+        }
+        return removed;
+    }
 }
\ No newline at end of file
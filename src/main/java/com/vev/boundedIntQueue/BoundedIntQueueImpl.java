@@ -1,18 +1,20 @@
 package com.vev.boundedIntQueue;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Objects;
 
 public class BoundedIntQueueImpl implements BoundedIntQueue {
     private final int capacity;
-    private final List<Integer> queue;
+    // buffer circular: head aponta para o primeiro elemento, size conta os ocupados
+    private final int[] elements;
+    private int head;
+    private int size;
     
     public BoundedIntQueueImpl(int capacity) {
         if (capacity <= 0) {
             throw new IllegalArgumentException("Capacity must be positive");
         }
         this.capacity = capacity;
-        this.queue = new ArrayList<>();
+        this.elements = new int[capacity];
     }
     
     @Override
@@ -22,32 +24,79 @@ public class BoundedIntQueueImpl implements BoundedIntQueue {
     
     @Override
     public int size() {
-        return queue.size();
+        return size;
     }
     
     @Override
     public boolean isEmpty() {
-        return queue.isEmpty();
+        return size == 0;
     }
     
     @Override
     public boolean isFull() {
-        return queue.size() >= capacity;
+        return size >= capacity;
     }
     
     @Override
     public void addLast(int value) {
-        if (isFull()) {
-            throw new QueueFullException();
+        if (!offer(value)) {
+            throw QueueFullException.INSTANCE;
         }
-        queue.add(value);
     }
     
     @Override
     public int removeFirst() {
         if (isEmpty()) {
-            throw new QueueEmptyException();
+            throw QueueEmptyException.INSTANCE;
         }
-        return queue.remove(0);
+        int value = elements[head];
+        head = index(1);
+        size--;
+        return value;
+    }
+    
+    @Override
+    public boolean offer(int value) {
+        if (isFull()) {
+            return false;
+        }
+        elements[index(size)] = value;
+        size++;
+        return true;
+    }
+    
+    @Override
+    public int poll(int sentinel) {
+        return isEmpty() ? sentinel : removeFirst();
+    }
+    
+    @Override
+    public int addAll(int[] src, int off, int len) {
+        Objects.checkFromIndexSize(off, len, src.length);
+        int count = Math.min(len, capacity - size);
+        int tail = index(size);
+        int first = Math.min(count, capacity - tail);
+        System.arraycopy(src, off, elements, tail, first);
+        System.arraycopy(src, off + first, elements, 0, count - first);
+        size += count;
+        return count;
+    }
+    
+    @Override
+    public int drainTo(int[] dst, int off, int max) {
+        Objects.checkFromIndexSize(off, max, dst.length);
+        int count = Math.min(max, size);
+        int first = Math.min(count, capacity - head);
+        System.arraycopy(elements, head, dst, off, first);
+        System.arraycopy(elements, 0, dst, off + first, count - first);
+        head = index(count);
+        size -= count;
+        return count;
+    }
+    
+    // posição física do elemento que está offset posições após head
+    private int index(int offset) {
+        int i = head + offset;
+        return i >= capacity ? i - capacity : i;
     }
 }
@@ -0,0 +1,44 @@
+package com.vev.boundedIntQueue;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+
+// Liberação imediata de buffers diretos e mapeados, usada pelas filas fora do
+// heap no close().
+final class DirectBuffers {
+    // Unsafe.invokeCleaner, quando disponível; sem ele a memória só é
+    // liberada quando o GC coletar o buffer
+    private static final MethodHandle INVOKE_CLEANER = findCleaner();
+    
+    private DirectBuffers() {
+    }
+    
+    // buffer deve ser o buffer original (não uma fatia ou duplicata) e não
+    // pode ser usado depois
+    static void free(ByteBuffer buffer) {
+        if (INVOKE_CLEANER == null) {
+            return;
+        }
+        try {
+            INVOKE_CLEANER.invokeExact(buffer);
+        } catch (Throwable e) {
+            // fica para o GC
+        }
+    }
+    
+    private static MethodHandle findCleaner() {
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field field = unsafeClass.getDeclaredField("theUnsafe");
+            field.setAccessible(true);
+            MethodHandle invokeCleaner = MethodHandles.lookup()
+                    .findVirtual(unsafeClass, "invokeCleaner", MethodType.methodType(void.class, ByteBuffer.class));
+            return invokeCleaner.bindTo(field.get(null));
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.vev.boundedIntQueue;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+// Blocos int[] de tamanho fixo reaproveitados entre filas
+// SegmentedBoundedIntQueue, que podem estar em threads diferentes. Guarda no
+// máximo maxPooledChunks blocos livres; os excedentes ficam para o GC. Os
+// blocos não são zerados ao voltar para o pool.
+public final class IntChunkPool {
+    public static final int DEFAULT_CHUNK_SIZE = 256;
+    public static final int DEFAULT_MAX_POOLED_CHUNKS = 4096;
+    
+    private static final IntChunkPool DEFAULT = new IntChunkPool(DEFAULT_CHUNK_SIZE, DEFAULT_MAX_POOLED_CHUNKS);
+    
+    private final int chunkSize;
+    // pilha de blocos livres, protegida por lock
+    private final int[][] free;
+    private final ReentrantLock lock = new ReentrantLock();
+    private int count;
+    
+    public IntChunkPool(int chunkSize, int maxPooledChunks) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive");
+        }
+        if (maxPooledChunks < 0) {
+            throw new IllegalArgumentException("Maximum pooled chunks must not be negative");
+        }
+        this.chunkSize = chunkSize;
+        this.free = new int[maxPooledChunks][];
+    }
+    
+    // pool compartilhado pelas filas criadas sem um pool explícito
+    public static IntChunkPool defaultPool() {
+        return DEFAULT;
+    }
+    
+    public int chunkSize() {
+        return chunkSize;
+    }
+    
+    // quantidade de blocos livres no pool
+    public int pooledChunks() {
+        lock.lock();
+        try {
+            return count;
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    int[] acquire() {
+        lock.lock();
+        try {
+            if (count > 0) {
+                int[] chunk = free[--count];
+                free[count] = null;
+                return chunk;
+            }
+        } finally {
+            lock.unlock();
+        }
+        return new int[chunkSize];
+    }
+    
+    void release(int[] chunk) {
+        lock.lock();
+        try {
+            if (count < free.length) {
+                free[count++] = chunk;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,308 @@
+package com.vev.boundedIntQueue;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+// Fila circular persistente (não thread-safe, como BoundedIntQueueImpl)
+// guardada em um arquivo mapeado em memória: os elementos são gravados direto
+// no page cache, sem serialização, e head/tail ficam no cabeçalho do arquivo.
+// Reabrir o arquivo recupera a fila como estava.
+//
+// Formato (little-endian): magic, versão e capacidade (int) nos bytes 0, 4 e
+// 8; head e tail (long, contadores que só crescem) nos bytes 16 e 24; os
+// elementos a partir do byte 64. Toda inserção grava o elemento e só depois
+// (com uma barreira entre as duas escritas) publica o novo tail, e toda
+// remoção lê o elemento antes de publicar o novo head. Se o processo cair, o
+// page cache continua com tudo o que foi publicado: ao reabrir, a inserção
+// interrompida simplesmente não aconteceu e a remoção interrompida devolve o
+// elemento de novo. Se o sistema operacional cair, nada garante a ordem em
+// que as páginas foram para o disco; vale apenas o estado coberto pelo último
+// force(), que grava os elementos antes do cabeçalho.
+public class MappedBoundedIntQueue implements BoundedIntQueue, Closeable {
+    private static final int MAGIC = 0x42495131; // "BIQ1"
+    private static final int VERSION = 1;
+    private static final int MAGIC_OFFSET = 0;
+    private static final int VERSION_OFFSET = 4;
+    private static final int CAPACITY_OFFSET = 8;
+    private static final int HEAD_OFFSET = 16;
+    private static final int TAIL_OFFSET = 24;
+    private static final int HEADER_SIZE = 64;
+    // o arquivo inteiro precisa caber em um único mapeamento
+    public static final int MAX_CAPACITY = (Integer.MAX_VALUE - HEADER_SIZE) / Integer.BYTES;
+    
+    // Quando chamar force() automaticamente: nunca (o sistema operacional grava
+    // as páginas quando quiser), a cada N operações ou na primeira operação
+    // feita T depois do último force(). Tudo roda dentro das operações da
+    // fila, sem thread extra (a fila não é thread-safe).
+    public static final class ForcePolicy {
+        private static final ForcePolicy NEVER = new ForcePolicy(0, 0);
+        
+        private final int operations;
+        private final long nanos;
+        
+        private ForcePolicy(int operations, long nanos) {
+            this.operations = operations;
+            this.nanos = nanos;
+        }
+        
+        public static ForcePolicy never() {
+            return NEVER;
+        }
+        
+        public static ForcePolicy everyOperations(int operations) {
+            if (operations <= 0) {
+                throw new IllegalArgumentException("Operations must be positive");
+            }
+            return new ForcePolicy(operations, 0);
+        }
+        
+        // O tempo só é conferido quando uma operação acontece: uma gravação
+        // feita menos de T depois do último force() fica pendente até a
+        // próxima operação, e numa fila parada pode esperar indefinidamente.
+        // Para um limite de tempo de verdade, chame force() periodicamente na
+        // thread dona da fila.
+        public static ForcePolicy onFirstOperationAfter(long interval, TimeUnit unit) {
+            if (interval <= 0) {
+                throw new IllegalArgumentException("Interval must be positive");
+            }
+            return new ForcePolicy(0, unit.toNanos(interval));
+        }
+    }
+    
+    private final int capacity;
+    private final ForcePolicy policy;
+    private MappedByteBuffer mapped;
+    private IntBuffer elements;
+    private long head;
+    private long tail;
+    // posições físicas de head e tail, para não calcular o resto a cada operação
+    private int headIndex;
+    private int tailIndex;
+    // operações ainda não forçadas e instante do último force()
+    private int pending;
+    private long lastForce;
+    
+    public MappedBoundedIntQueue(Path file, int capacity) throws IOException {
+        this(file, capacity, ForcePolicy.never());
+    }
+    
+    // Cria o arquivo se ele não existir ou estiver vazio; senão, recupera a
+    // fila gravada nele (IOException se o arquivo não for uma fila ou tiver
+    // outra capacidade).
+    public MappedBoundedIntQueue(Path file, int capacity, ForcePolicy policy) throws IOException {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        if (capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Capacity must be at most " + MAX_CAPACITY);
+        }
+        this.capacity = capacity;
+        this.policy = Objects.requireNonNull(policy);
+        int size = HEADER_SIZE + capacity * Integer.BYTES;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            long existing = channel.size();
+            if (existing != 0 && existing != size) {
+                throw new IOException("File size " + existing + " does not match a queue of capacity " + capacity);
+            }
+            mapped = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        }
+        mapped.order(ByteOrder.LITTLE_ENDIAN);
+        elements = mapped.slice(HEADER_SIZE, capacity * Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+        try {
+            if (mapped.getInt(MAGIC_OFFSET) == 0) {
+                initialize();
+            } else {
+                recover();
+            }
+        } catch (IOException e) {
+            DirectBuffers.free(mapped);
+            throw e;
+        }
+        lastForce = System.nanoTime();
+    }
+    
+    private void initialize() {
+        mapped.putInt(VERSION_OFFSET, VERSION);
+        mapped.putInt(CAPACITY_OFFSET, capacity);
+        mapped.putLong(HEAD_OFFSET, 0);
+        mapped.putLong(TAIL_OFFSET, 0);
+        // o magic por último: um arquivo com magic está completo
+        VarHandle.storeStoreFence();
+        mapped.putInt(MAGIC_OFFSET, MAGIC);
+        mapped.force();
+    }
+    
+    private void recover() throws IOException {
+        if (mapped.getInt(MAGIC_OFFSET) != MAGIC || mapped.getInt(VERSION_OFFSET) != VERSION) {
+            throw new IOException("Not a queue file");
+        }
+        if (mapped.getInt(CAPACITY_OFFSET) != capacity) {
+            throw new IOException("Queue file has capacity " + mapped.getInt(CAPACITY_OFFSET) + ", expected " + capacity);
+        }
+        head = mapped.getLong(HEAD_OFFSET);
+        tail = mapped.getLong(TAIL_OFFSET);
+        if (head < 0 || tail < head || tail - head > capacity) {
+            throw new IOException("Corrupt queue header: head " + head + ", tail " + tail);
+        }
+        headIndex = (int) (head % capacity);
+        tailIndex = (int) (tail % capacity);
+    }
+    
+    @Override
+    public int capacity() {
+        return capacity;
+    }
+    
+    @Override
+    public int size() {
+        return (int) (tail - head);
+    }
+    
+    @Override
+    public boolean isEmpty() {
+        return tail == head;
+    }
+    
+    @Override
+    public boolean isFull() {
+        return tail - head >= capacity;
+    }
+    
+    @Override
+    public void addLast(int value) {
+        if (!offer(value)) {
+            throw QueueFullException.INSTANCE;
+        }
+    }
+    
+    @Override
+    public int removeFirst() {
+        IntBuffer elements = open();
+        if (isEmpty()) {
+            throw QueueEmptyException.INSTANCE;
+        }
+        int value = elements.get(headIndex);
+        headIndex = next(headIndex, 1);
+        VarHandle.releaseFence();
+        mapped.putLong(HEAD_OFFSET, ++head);
+        written();
+        return value;
+    }
+    
+    @Override
+    public boolean offer(int value) {
+        IntBuffer elements = open();
+        if (isFull()) {
+            return false;
+        }
+        elements.put(tailIndex, value);
+        tailIndex = next(tailIndex, 1);
+        VarHandle.storeStoreFence();
+        mapped.putLong(TAIL_OFFSET, ++tail);
+        written();
+        return true;
+    }
+    
+    @Override
+    public int poll(int sentinel) {
+        // open() antes: uma fila fechada e vazia também gera IllegalStateException
+        open();
+        return isEmpty() ? sentinel : removeFirst();
+    }
+    
+    // cópia em bloco e um único tail publicado no fim
+    @Override
+    public int addAll(int[] src, int off, int len) {
+        Objects.checkFromIndexSize(off, len, src.length);
+        IntBuffer elements = open();
+        int count = Math.min(len, capacity - size());
+        if (count == 0) {
+            return 0;
+        }
+        int first = Math.min(count, capacity - tailIndex);
+        elements.put(tailIndex, src, off, first);
+        elements.put(0, src, off + first, count - first);
+        tailIndex = next(tailIndex, count);
+        tail += count;
+        VarHandle.storeStoreFence();
+        mapped.putLong(TAIL_OFFSET, tail);
+        written();
+        return count;
+    }
+    
+    @Override
+    public int drainTo(int[] dst, int off, int max) {
+        Objects.checkFromIndexSize(off, max, dst.length);
+        IntBuffer elements = open();
+        int count = Math.min(max, size());
+        if (count == 0) {
+            return 0;
+        }
+        int first = Math.min(count, capacity - headIndex);
+        elements.get(headIndex, dst, off, first);
+        elements.get(0, dst, off + first, count - first);
+        headIndex = next(headIndex, count);
+        head += count;
+        VarHandle.releaseFence();
+        mapped.putLong(HEAD_OFFSET, head);
+        written();
+        return count;
+    }
+    
+    // grava em disco os elementos e depois o cabeçalho
+    public void force() {
+        open();
+        mapped.force(HEADER_SIZE, capacity * Integer.BYTES);
+        mapped.force(0, HEADER_SIZE);
+        pending = 0;
+        lastForce = System.nanoTime();
+    }
+    
+    // força o que estiver pendente (a não ser com ForcePolicy.never()) e
+    // desfaz o mapeamento; chamadas repetidas não fazem nada
+    @Override
+    public void close() {
+        if (mapped == null) {
+            return;
+        }
+        if (pending > 0 && policy != ForcePolicy.NEVER) {
+            force();
+        }
+        MappedByteBuffer buffer = mapped;
+        mapped = null;
+        elements = null;
+        DirectBuffers.free(buffer);
+    }
+    
+    private void written() {
+        pending++;
+        if (policy.operations > 0) {
+            if (pending >= policy.operations) {
+                force();
+            }
+        } else if (policy.nanos > 0 && System.nanoTime() - lastForce >= policy.nanos) {
+            force();
+        }
+    }
+    
+    private IntBuffer open() {
+        IntBuffer elements = this.elements;
+        if (elements == null) {
+            throw new IllegalStateException("Queue is closed");
+        }
+        return elements;
+    }
+    
+    private int next(int index, int offset) {
+        return offset < capacity - index ? index + offset : offset - (capacity - index);
+    }
+}
@@ -0,0 +1,268 @@
+package com.vev.boundedIntQueue;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// Fila para vários produtores e vários consumidores (algoritmo de Vyukov).
+// Cada posição do buffer tem um número de sequência que indica de quem é a vez:
+// sequence == pos significa livre para o produtor da posição pos e
+// sequence == pos + 1 significa ocupada e pronta para o consumidor de pos.
+// Produtores e consumidores disputam apenas tail e head via CAS; o elemento é
+// publicado pelo release na sequência, então o int[] pode ser acessado sem volatile.
+public final class MpmcBoundedIntQueue extends MpmcPadding2 implements BoundedIntQueue {
+    private static final VarHandle HEAD;
+    private static final VarHandle TAIL;
+    
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            HEAD = lookup.findVarHandle(MpmcHeadField.class, "head", long.class);
+            TAIL = lookup.findVarHandle(MpmcTailField.class, "tail", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+    
+    private final int capacity;
+    // posições físicas do buffer: pelo menos 2, porque com uma só a sequência
+    // pos + 1 significaria tanto "pronta para o consumidor de pos" quanto
+    // "livre para o produtor de pos + 1"; com capacity == 1 o limite lógico é
+    // conferido em offer e addAll
+    private final int slots;
+    // -1 quando slots não é potência de dois
+    private final int mask;
+    private final int[] elements;
+    private final AtomicLongArray sequences;
+    
+    public MpmcBoundedIntQueue(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        this.capacity = capacity;
+        this.slots = Math.max(2, capacity);
+        this.mask = Integer.bitCount(slots) == 1 ? slots - 1 : -1;
+        this.elements = new int[slots];
+        this.sequences = new AtomicLongArray(slots);
+        for (int i = 0; i < slots; i++) {
+            sequences.setPlain(i, i);
+        }
+        VarHandle.releaseFence();
+    }
+    
+    @Override
+    public int capacity() {
+        return capacity;
+    }
+    
+    @Override
+    public int size() {
+        // relê head até obter um par (head, tail) consistente
+        long h = (long) HEAD.getAcquire(this);
+        while (true) {
+            long t = (long) TAIL.getAcquire(this);
+            long again = (long) HEAD.getAcquire(this);
+            if (again == h) {
+                long size = t - h;
+                if (size < 0) {
+                    return 0;
+                }
+                return size > capacity ? capacity : (int) size;
+            }
+            h = again;
+        }
+    }
+    
+    // uma única leitura de head e de tail, sem repetir: sob concorrência o
+    // par pode ser inconsistente, então o resultado só é limitado a
+    // [0, capacity]; usado por StripedBoundedIntQueue para somar as faixas
+    int approximateSize() {
+        long h = (long) HEAD.getAcquire(this);
+        long size = (long) TAIL.getAcquire(this) - h;
+        if (size < 0) {
+            return 0;
+        }
+        return size > capacity ? capacity : (int) size;
+    }
+    
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+    
+    @Override
+    public boolean isFull() {
+        return size() >= capacity;
+    }
+    
+    @Override
+    public void addLast(int value) {
+        if (!offer(value)) {
+            throw QueueFullException.INSTANCE;
+        }
+    }
+    
+    @Override
+    public int removeFirst() {
+        long value = pollValue();
+        if (value < 0) {
+            throw QueueEmptyException.INSTANCE;
+        }
+        return (int) value;
+    }
+    
+    @Override
+    public boolean offer(int value) {
+        long pos = (long) TAIL.getOpaque(this);
+        while (true) {
+            int index = index(pos);
+            long diff = sequences.getAcquire(index) - pos;
+            if (diff == 0) {
+                // head só cresce, então o tamanho no CAS não passa de pos - head
+                if (capacity < slots && pos - (long) HEAD.getAcquire(this) >= capacity) {
+                    return false;
+                }
+                if (TAIL.weakCompareAndSet(this, pos, pos + 1)) {
+                    elements[index] = value;
+                    sequences.setRelease(index, pos + 1);
+                    return true;
+                }
+                pos = (long) TAIL.getOpaque(this);
+            } else if (diff < 0) {
+                // a posição ainda guarda o elemento de uma volta anterior
+                return false;
+            } else {
+                // outro produtor já usou pos
+                pos = (long) TAIL.getOpaque(this);
+            }
+        }
+    }
+    
+    @Override
+    public int poll(int sentinel) {
+        long value = pollValue();
+        return value < 0 ? sentinel : (int) value;
+    }
+    
+    // retorna o primeiro elemento estendido sem sinal para long, ou -1 se a
+    // fila está vazia, para que removeFirst e poll (e StripedBoundedIntQueue,
+    // que procura nas várias faixas) compartilhem o mesmo caminho
+    long pollValue() {
+        long pos = (long) HEAD.getOpaque(this);
+        while (true) {
+            int index = index(pos);
+            long diff = sequences.getAcquire(index) - (pos + 1);
+            if (diff == 0) {
+                if (HEAD.weakCompareAndSet(this, pos, pos + 1)) {
+                    int value = elements[index];
+                    sequences.setRelease(index, pos + slots);
+                    return Integer.toUnsignedLong(value);
+                }
+                pos = (long) HEAD.getOpaque(this);
+            } else if (diff < 0) {
+                // nenhum produtor publicou pos ainda
+                return -1;
+            } else {
+                // outro consumidor já retirou pos
+                pos = (long) HEAD.getOpaque(this);
+            }
+        }
+    }
+    
+    // Reserva de uma vez o maior prefixo de posições livres (um único CAS em
+    // tail para o lote todo); cada posição continua sendo publicada pela sua
+    // sequência, pois os consumidores as examinam individualmente.
+    @Override
+    public int addAll(int[] src, int off, int len) {
+        Objects.checkFromIndexSize(off, len, src.length);
+        if (len == 0) {
+            return 0;
+        }
+        while (true) {
+            long pos = (long) TAIL.getOpaque(this);
+            int limit = capacity < slots ? (int) Math.min(len, capacity - (pos - (long) HEAD.getAcquire(this))) : len;
+            if (limit <= 0) {
+                return 0;
+            }
+            int count = 0;
+            while (count < limit && sequences.getAcquire(index(pos + count)) == pos + count) {
+                count++;
+            }
+            if (count == 0) {
+                if (sequences.getAcquire(index(pos)) - pos < 0) {
+                    return 0;
+                }
+                continue;
+            }
+            if (TAIL.compareAndSet(this, pos, pos + count)) {
+                for (int i = 0; i < count; i++) {
+                    int index = index(pos + i);
+                    elements[index] = src[off + i];
+                    sequences.setRelease(index, pos + i + 1);
+                }
+                return count;
+            }
+        }
+    }
+    
+    @Override
+    public int drainTo(int[] dst, int off, int max) {
+        Objects.checkFromIndexSize(off, max, dst.length);
+        if (max == 0) {
+            return 0;
+        }
+        while (true) {
+            long pos = (long) HEAD.getOpaque(this);
+            int count = 0;
+            while (count < max && sequences.getAcquire(index(pos + count)) == pos + count + 1) {
+                count++;
+            }
+            if (count == 0) {
+                if (sequences.getAcquire(index(pos)) - (pos + 1) < 0) {
+                    return 0;
+                }
+                continue;
+            }
+            if (HEAD.compareAndSet(this, pos, pos + count)) {
+                for (int i = 0; i < count; i++) {
+                    int index = index(pos + i);
+                    dst[off + i] = elements[index];
+                    sequences.setRelease(index, pos + i + slots);
+                }
+                return count;
+            }
+        }
+    }
+    
+    private int index(long pos) {
+        return mask >= 0 ? (int) pos & mask : (int) (pos % slots);
+    }
+}
+
+// Preenchimento para manter tail (produtores) e head (consumidores) em linhas
+// de cache distintas; a JVM dispõe os campos da superclasse primeiro.
+abstract class MpmcPadding0 {
+    long p00, p01, p02, p03, p04, p05, p06, p07;
+    long p08, p09, p10, p11, p12, p13, p14, p15;
+}
+
+abstract class MpmcTailField extends MpmcPadding0 {
+    // próxima posição a ser reservada por um produtor
+    volatile long tail;
+}
+
+abstract class MpmcPadding1 extends MpmcTailField {
+    long p16, p17, p18, p19, p20, p21, p22, p23;
+    long p24, p25, p26, p27, p28, p29, p30, p31;
+}
+
+abstract class MpmcHeadField extends MpmcPadding1 {
+    // próxima posição a ser reservada por um consumidor
+    volatile long head;
+}
+
+abstract class MpmcPadding2 extends MpmcHeadField {
+    long p32, p33, p34, p35, p36, p37, p38, p39;
+    long p40, p41, p42, p43, p44, p45, p46, p47;
+}
@@ -0,0 +1,184 @@
+package com.vev.boundedIntQueue;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.util.Objects;
+
+// Fila circular (não thread-safe, como BoundedIntQueueImpl) guardada fora do
+// heap, em blocos de memória direta de até chunkCapacity ints cada: o GC não
+// precisa copiar nem varrer os elementos, e a capacidade total pode passar de
+// Integer.MAX_VALUE bytes. close() libera a memória na hora; depois dele, as
+// operações que leem ou gravam elementos geram IllegalStateException.
+public class OffHeapBoundedIntQueue implements BoundedIntQueue, AutoCloseable {
+    // 2^28 ints = 1 GiB por bloco, abaixo do limite de um ByteBuffer
+    public static final int DEFAULT_CHUNK_CAPACITY = 1 << 28;
+    
+    private final int capacity;
+    private final int chunkShift;
+    private final int chunkMask;
+    private final ByteBuffer[] memory;
+    // visões int (ordem nativa) de memory; null depois de close()
+    private IntBuffer[] chunks;
+    private int head;
+    private int size;
+    
+    public OffHeapBoundedIntQueue(int capacity) {
+        this(capacity, DEFAULT_CHUNK_CAPACITY);
+    }
+    
+    // chunkCapacity deve ser potência de dois, de 1 a DEFAULT_CHUNK_CAPACITY
+    public OffHeapBoundedIntQueue(int capacity, int chunkCapacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        if (chunkCapacity <= 0 || chunkCapacity > DEFAULT_CHUNK_CAPACITY || Integer.bitCount(chunkCapacity) != 1) {
+            throw new IllegalArgumentException("Chunk capacity must be a power of two up to " + DEFAULT_CHUNK_CAPACITY);
+        }
+        this.capacity = capacity;
+        this.chunkShift = Integer.numberOfTrailingZeros(chunkCapacity);
+        this.chunkMask = chunkCapacity - 1;
+        int count = (int) (((long) capacity + chunkMask) >>> chunkShift);
+        this.memory = new ByteBuffer[count];
+        this.chunks = new IntBuffer[count];
+        try {
+            for (int i = 0; i < count; i++) {
+                int length = (int) Math.min(chunkCapacity, capacity - ((long) i << chunkShift));
+                memory[i] = ByteBuffer.allocateDirect(length * Integer.BYTES).order(ByteOrder.nativeOrder());
+                chunks[i] = memory[i].asIntBuffer();
+            }
+        } catch (OutOfMemoryError e) {
+            // release e não close(): uma subclasse ainda não inicializada
+            // não deve ser chamada a partir deste construtor
+            release();
+            throw e;
+        }
+    }
+    
+    @Override
+    public int capacity() {
+        return capacity;
+    }
+    
+    @Override
+    public int size() {
+        return size;
+    }
+    
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+    
+    @Override
+    public boolean isFull() {
+        return size >= capacity;
+    }
+    
+    @Override
+    public void addLast(int value) {
+        if (!offer(value)) {
+            throw QueueFullException.INSTANCE;
+        }
+    }
+    
+    @Override
+    public int removeFirst() {
+        IntBuffer[] chunks = open();
+        if (isEmpty()) {
+            throw QueueEmptyException.INSTANCE;
+        }
+        int value = chunks[head >>> chunkShift].get(head & chunkMask);
+        head = index(1);
+        size--;
+        return value;
+    }
+    
+    @Override
+    public boolean offer(int value) {
+        IntBuffer[] chunks = open();
+        if (isFull()) {
+            return false;
+        }
+        int tail = index(size);
+        chunks[tail >>> chunkShift].put(tail & chunkMask, value);
+        size++;
+        return true;
+    }
+    
+    @Override
+    public int poll(int sentinel) {
+        // open() antes: uma fila fechada e vazia também gera IllegalStateException
+        open();
+        return isEmpty() ? sentinel : removeFirst();
+    }
+    
+    // cópias em bloco, divididas nas fronteiras do buffer circular e dos blocos
+    @Override
+    public int addAll(int[] src, int off, int len) {
+        Objects.checkFromIndexSize(off, len, src.length);
+        IntBuffer[] chunks = open();
+        int count = Math.min(len, capacity - size);
+        int tail = index(size);
+        for (int copied = 0; copied < count; ) {
+            int inChunk = tail & chunkMask;
+            IntBuffer chunk = chunks[tail >>> chunkShift];
+            int n = Math.min(count - copied, Math.min(chunk.limit() - inChunk, capacity - tail));
+            chunk.put(inChunk, src, off + copied, n);
+            copied += n;
+            tail = tail + n == capacity ? 0 : tail + n;
+        }
+        size += count;
+        return count;
+    }
+    
+    @Override
+    public int drainTo(int[] dst, int off, int max) {
+        Objects.checkFromIndexSize(off, max, dst.length);
+        IntBuffer[] chunks = open();
+        int count = Math.min(max, size);
+        for (int copied = 0; copied < count; ) {
+            int inChunk = head & chunkMask;
+            IntBuffer chunk = chunks[head >>> chunkShift];
+            int n = Math.min(count - copied, Math.min(chunk.limit() - inChunk, capacity - head));
+            chunk.get(inChunk, dst, off + copied, n);
+            copied += n;
+            head = head + n == capacity ? 0 : head + n;
+        }
+        size -= count;
+        return count;
+    }
+    
+    // libera a memória dos blocos; chamadas repetidas não fazem nada
+    @Override
+    public void close() {
+        release();
+    }
+    
+    private void release() {
+        if (chunks == null) {
+            return;
+        }
+        chunks = null;
+        for (int i = 0; i < memory.length; i++) {
+            if (memory[i] != null) {
+                DirectBuffers.free(memory[i]);
+                memory[i] = null;
+            }
+        }
+    }
+    
+    private IntBuffer[] open() {
+        IntBuffer[] chunks = this.chunks;
+        if (chunks == null) {
+            throw new IllegalStateException("Queue is closed");
+        }
+        return chunks;
+    }
+    
+    // posição física do elemento que está offset posições após head, sem
+    // estourar int quando a capacidade passa de 2^30
+    private int index(int offset) {
+        return offset < capacity - head ? head + offset : offset - (capacity - head);
+    }
+}
@@ -1,6 +1,12 @@
 package com.vev.boundedIntQueue;
 
 public class QueueEmptyException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+    
+    // instância compartilhada sem stack trace, usada nos caminhos quentes das
+    // filas para que uma fila vazia não custe a captura da pilha
+    static final QueueEmptyException INSTANCE = new QueueEmptyException("Queue is empty", false);
+    
     public QueueEmptyException() {
         super("Queue is empty");
     }
@@ -8,4 +14,8 @@ public class QueueEmptyException extends RuntimeException {
     public QueueEmptyException(String message) {
         super(message);
     }
+    
+    protected QueueEmptyException(String message, boolean writableStackTrace) {
+        super(message, null, false, writableStackTrace);
+    }
 }
@@ -1,6 +1,12 @@
 package com.vev.boundedIntQueue;
 
 public class QueueFullException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+    
+    // instância compartilhada sem stack trace, usada nos caminhos quentes das
+    // filas para que uma fila cheia não custe a captura da pilha
+    static final QueueFullException INSTANCE = new QueueFullException("Queue is full", false);
+    
     public QueueFullException() {
         super("Queue is full");
     }
@@ -8,4 +14,8 @@ public class QueueFullException extends RuntimeException {
     public QueueFullException(String message) {
         super(message);
     }
+    
+    protected QueueFullException(String message, boolean writableStackTrace) {
+        super(message, null, false, writableStackTrace);
+    }
 }
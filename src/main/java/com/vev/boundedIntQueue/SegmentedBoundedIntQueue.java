@@ -0,0 +1,185 @@
+package com.vev.boundedIntQueue;
+
+import java.util.Objects;
+
+// Fila (não thread-safe, como BoundedIntQueueImpl) que cresce e encolhe em
+// blocos int[] de tamanho fixo tirados de um IntChunkPool: a memória usada
+// acompanha size(), não capacity(). capacity() só limita o número de elementos
+// (isFull/QueueFullException) e pode ser Integer.MAX_VALUE para uma fila
+// praticamente ilimitada. Um bloco esvaziado volta ao pool na hora, exceto o
+// último, que a fila vazia mantém para não pegar e devolver um bloco a cada
+// inserção; trim() devolve também esse.
+public class SegmentedBoundedIntQueue implements BoundedIntQueue {
+    private final int capacity;
+    private final IntChunkPool pool;
+    private final int chunkSize;
+    // diretório circular dos blocos em uso, do primeiro (head) ao último (tail);
+    // o tamanho é sempre potência de dois
+    private int[][] chunks = new int[4][];
+    private int firstChunk;
+    private int chunkCount;
+    // posição do primeiro elemento no primeiro bloco e da próxima inserção no último
+    private int headIndex;
+    private int tailIndex;
+    private int size;
+    
+    public SegmentedBoundedIntQueue() {
+        this(Integer.MAX_VALUE);
+    }
+    
+    public SegmentedBoundedIntQueue(int capacity) {
+        this(capacity, IntChunkPool.defaultPool());
+    }
+    
+    public SegmentedBoundedIntQueue(int capacity, IntChunkPool pool) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        this.capacity = capacity;
+        this.pool = Objects.requireNonNull(pool);
+        this.chunkSize = pool.chunkSize();
+    }
+    
+    @Override
+    public int capacity() {
+        return capacity;
+    }
+    
+    @Override
+    public int size() {
+        return size;
+    }
+    
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+    
+    @Override
+    public boolean isFull() {
+        return size >= capacity;
+    }
+    
+    // quantidade de blocos em uso
+    public int chunkCount() {
+        return chunkCount;
+    }
+    
+    @Override
+    public void addLast(int value) {
+        if (!offer(value)) {
+            throw QueueFullException.INSTANCE;
+        }
+    }
+    
+    @Override
+    public int removeFirst() {
+        if (isEmpty()) {
+            throw QueueEmptyException.INSTANCE;
+        }
+        int value = chunks[firstChunk][headIndex++];
+        size--;
+        afterRemove();
+        return value;
+    }
+    
+    @Override
+    public boolean offer(int value) {
+        if (isFull()) {
+            return false;
+        }
+        lastChunkWithSpace()[tailIndex++] = value;
+        size++;
+        return true;
+    }
+    
+    @Override
+    public int poll(int sentinel) {
+        return isEmpty() ? sentinel : removeFirst();
+    }
+    
+    @Override
+    public int addAll(int[] src, int off, int len) {
+        Objects.checkFromIndexSize(off, len, src.length);
+        int count = Math.min(len, capacity - size);
+        for (int copied = 0; copied < count; ) {
+            int[] chunk = lastChunkWithSpace();
+            int n = Math.min(count - copied, chunkSize - tailIndex);
+            System.arraycopy(src, off + copied, chunk, tailIndex, n);
+            tailIndex += n;
+            copied += n;
+        }
+        size += count;
+        return count;
+    }
+    
+    @Override
+    public int drainTo(int[] dst, int off, int max) {
+        Objects.checkFromIndexSize(off, max, dst.length);
+        int count = Math.min(max, size);
+        for (int copied = 0; copied < count; ) {
+            int available = chunkCount == 1 ? tailIndex - headIndex : chunkSize - headIndex;
+            int n = Math.min(count - copied, available);
+            System.arraycopy(chunks[firstChunk], headIndex, dst, off + copied, n);
+            headIndex += n;
+            copied += n;
+            size -= n;
+            afterRemove();
+        }
+        return count;
+    }
+    
+    // devolve ao pool o bloco que a fila vazia mantém
+    public void trim() {
+        if (size == 0 && chunkCount > 0) {
+            pool.release(chunks[firstChunk]);
+            chunks[firstChunk] = null;
+            chunkCount = 0;
+            headIndex = 0;
+            tailIndex = 0;
+        }
+    }
+    
+    private int[] lastChunkWithSpace() {
+        if (chunkCount == 0 || tailIndex == chunkSize) {
+            if (chunkCount == chunks.length) {
+                growDirectory();
+            }
+            chunks[(firstChunk + chunkCount) & (chunks.length - 1)] = pool.acquire();
+            if (chunkCount == 0) {
+                headIndex = 0;
+            }
+            chunkCount++;
+            tailIndex = 0;
+        }
+        return chunks[(firstChunk + chunkCount - 1) & (chunks.length - 1)];
+    }
+    
+    // libera o primeiro bloco quando ele acaba; quando a fila esvazia, head e
+    // tail estão no mesmo bloco, que volta a ser usado desde o início
+    private void afterRemove() {
+        if (size == 0) {
+            headIndex = 0;
+            tailIndex = 0;
+        } else if (headIndex == chunkSize) {
+            releaseFirstChunk();
+            headIndex = 0;
+        }
+    }
+    
+    private void releaseFirstChunk() {
+        pool.release(chunks[firstChunk]);
+        chunks[firstChunk] = null;
+        firstChunk = (firstChunk + 1) & (chunks.length - 1);
+        chunkCount--;
+    }
+    
+    private void growDirectory() {
+        int[][] grown = new int[chunks.length * 2][];
+        for (int i = 0; i < chunkCount; i++) {
+            grown[i] = chunks[(firstChunk + i) & (chunks.length - 1)];
+        }
+        chunks = grown;
+        firstChunk = 0;
+    }
+}
@@ -0,0 +1,204 @@
+package com.vev.boundedIntQueue;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Objects;
+
+// Fila para exatamente um produtor (addLast) e um consumidor (removeFirst).
+// O produtor só escreve tail e o consumidor só escreve head; cada lado publica
+// seu índice com release e lê o do outro com acquire, então addLast e
+// removeFirst terminam em um número fixo de passos (wait-free).
+public final class SpscBoundedIntQueue extends SpscPadding2 implements BoundedIntQueue {
+    private static final VarHandle HEAD;
+    private static final VarHandle TAIL;
+    
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            HEAD = lookup.findVarHandle(SpscConsumerFields.class, "head", long.class);
+            TAIL = lookup.findVarHandle(SpscProducerFields.class, "tail", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+    
+    private final int capacity;
+    // o buffer é arredondado para potência de dois para indexar com máscara
+    private final int mask;
+    private final int[] elements;
+    
+    public SpscBoundedIntQueue(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        if (capacity > 1 << 30) {
+            throw new IllegalArgumentException("Capacity must not exceed " + (1 << 30));
+        }
+        int length = Integer.highestOneBit(capacity);
+        if (length < capacity) {
+            length <<= 1;
+        }
+        this.capacity = capacity;
+        this.mask = length - 1;
+        this.elements = new int[length];
+    }
+    
+    @Override
+    public int capacity() {
+        return capacity;
+    }
+    
+    @Override
+    public int size() {
+        long h = (long) HEAD.getAcquire(this);
+        long t = (long) TAIL.getAcquire(this);
+        long size = t - h;
+        if (size < 0) {
+            return 0;
+        }
+        return size > capacity ? capacity : (int) size;
+    }
+    
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+    
+    @Override
+    public boolean isFull() {
+        return size() >= capacity;
+    }
+    
+    // deve ser chamado apenas pela thread produtora
+    @Override
+    public void addLast(int value) {
+        if (!offer(value)) {
+            throw QueueFullException.INSTANCE;
+        }
+    }
+    
+    // deve ser chamado apenas pela thread consumidora
+    @Override
+    public int removeFirst() {
+        long value = pollValue();
+        if (value < 0) {
+            throw QueueEmptyException.INSTANCE;
+        }
+        return (int) value;
+    }
+    
+    // deve ser chamado apenas pela thread produtora
+    @Override
+    public boolean offer(int value) {
+        long t = tail;
+        if (t - headCache >= capacity) {
+            headCache = (long) HEAD.getAcquire(this);
+            if (t - headCache >= capacity) {
+                return false;
+            }
+        }
+        elements[(int) t & mask] = value;
+        TAIL.setRelease(this, t + 1);
+        return true;
+    }
+    
+    // deve ser chamado apenas pela thread consumidora
+    @Override
+    public int poll(int sentinel) {
+        long value = pollValue();
+        return value < 0 ? sentinel : (int) value;
+    }
+    
+    // retorna o primeiro elemento estendido sem sinal para long, ou -1 se a
+    // fila está vazia, para que removeFirst e poll compartilhem o mesmo caminho
+    private long pollValue() {
+        long h = head;
+        if (h >= tailCache) {
+            tailCache = (long) TAIL.getAcquire(this);
+            if (h >= tailCache) {
+                return -1;
+            }
+        }
+        int value = elements[(int) h & mask];
+        HEAD.setRelease(this, h + 1);
+        return Integer.toUnsignedLong(value);
+    }
+    
+    // deve ser chamado apenas pela thread produtora; o lote inteiro é
+    // publicado com um único release em tail
+    @Override
+    public int addAll(int[] src, int off, int len) {
+        Objects.checkFromIndexSize(off, len, src.length);
+        long t = tail;
+        long free = capacity - (t - headCache);
+        if (free < len) {
+            headCache = (long) HEAD.getAcquire(this);
+            free = capacity - (t - headCache);
+        }
+        int count = (int) Math.min(len, free);
+        if (count == 0) {
+            return 0;
+        }
+        int start = (int) t & mask;
+        int first = Math.min(count, elements.length - start);
+        System.arraycopy(src, off, elements, start, first);
+        System.arraycopy(src, off + first, elements, 0, count - first);
+        TAIL.setRelease(this, t + count);
+        return count;
+    }
+    
+    // deve ser chamado apenas pela thread consumidora; as posições liberadas
+    // são devolvidas ao produtor com um único release em head
+    @Override
+    public int drainTo(int[] dst, int off, int max) {
+        Objects.checkFromIndexSize(off, max, dst.length);
+        long h = head;
+        long available = tailCache - h;
+        if (available < max) {
+            tailCache = (long) TAIL.getAcquire(this);
+            available = tailCache - h;
+        }
+        int count = (int) Math.min(max, available);
+        if (count == 0) {
+            return 0;
+        }
+        int start = (int) h & mask;
+        int first = Math.min(count, elements.length - start);
+        System.arraycopy(elements, start, dst, off, first);
+        System.arraycopy(elements, 0, dst, off + first, count - first);
+        HEAD.setRelease(this, h + count);
+        return count;
+    }
+}
+
+// As classes abaixo só existem para o layout dos campos: a JVM coloca os campos
+// da superclasse antes dos da subclasse, então os longs de preenchimento deixam
+// os campos do produtor e do consumidor em linhas de cache diferentes.
+abstract class SpscPadding0 {
+    long p00, p01, p02, p03, p04, p05, p06, p07;
+    long p08, p09, p10, p11, p12, p13, p14, p15;
+}
+
+abstract class SpscProducerFields extends SpscPadding0 {
+    // próximo índice a ser escrito; publicado com release
+    long tail;
+    // última leitura de head feita pelo produtor
+    long headCache;
+}
+
+abstract class SpscPadding1 extends SpscProducerFields {
+    long p16, p17, p18, p19, p20, p21, p22, p23;
+    long p24, p25, p26, p27, p28, p29, p30, p31;
+}
+
+abstract class SpscConsumerFields extends SpscPadding1 {
+    // próximo índice a ser lido; publicado com release
+    long head;
+    // última leitura de tail feita pelo consumidor
+    long tailCache;
+}
+
+abstract class SpscPadding2 extends SpscConsumerFields {
+    long p32, p33, p34, p35, p36, p37, p38, p39;
+    long p40, p41, p42, p43, p44, p45, p46, p47;
+}
@@ -0,0 +1,175 @@
+package com.vev.boundedIntQueue;
+
+import java.util.Objects;
+
+// Fila thread-safe dividida em faixas (stripes), cada uma uma
+// MpmcBoundedIntQueue, para que muitos núcleos não disputem o mesmo head e
+// tail. Cada thread tem uma faixa preferida, escolhida pelo hash do id da
+// thread: produtores inserem nela e consumidores retiram dela primeiro; se
+// ela estiver cheia (ou vazia), a operação tenta as outras faixas em
+// sequência, e os consumidores acabam roubando trabalho das faixas alheias.
+//
+// A ordem FIFO vale só dentro de cada faixa. offer só falha quando todas as
+// faixas estão cheias, e poll só retorna sentinel quando todas estão vazias
+// no momento em que foram consultadas. size(), isEmpty() e isFull() usam
+// MpmcBoundedIntQueue.approximateSize() de cada faixa, sem travá-las nem
+// repetir leituras: sob concorrência o resultado é aproximado, mas custa
+// apenas uma leitura de head e uma de tail por faixa, sem nenhuma escrita
+// extra nas operações.
+public class StripedBoundedIntQueue implements BoundedIntQueue {
+    private final int capacity;
+    private final MpmcBoundedIntQueue[] stripes;
+    
+    // uma faixa por processador disponível
+    public StripedBoundedIntQueue(int capacity) {
+        this(capacity, Runtime.getRuntime().availableProcessors());
+    }
+    
+    // a capacidade é dividida entre as faixas; o número de faixas é limitado a
+    // capacity / 2 para que cada uma tenha ao menos duas posições e uma fila
+    // pequena não vire muitas faixas de um elemento só
+    public StripedBoundedIntQueue(int capacity, int stripeCount) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        if (stripeCount <= 0) {
+            throw new IllegalArgumentException("Stripe count must be positive");
+        }
+        this.capacity = capacity;
+        int count = Math.max(1, Math.min(stripeCount, capacity / 2));
+        this.stripes = new MpmcBoundedIntQueue[count];
+        for (int i = 0; i < count; i++) {
+            // as primeiras capacity % count faixas ficam com um elemento a mais
+            stripes[i] = new MpmcBoundedIntQueue(capacity / count + (i < capacity % count ? 1 : 0));
+        }
+    }
+    
+    @Override
+    public int capacity() {
+        return capacity;
+    }
+    
+    public int stripeCount() {
+        return stripes.length;
+    }
+    
+    @Override
+    public int size() {
+        int size = 0;
+        for (MpmcBoundedIntQueue stripe : stripes) {
+            size += stripe.approximateSize();
+        }
+        return Math.min(size, capacity);
+    }
+    
+    @Override
+    public boolean isEmpty() {
+        for (MpmcBoundedIntQueue stripe : stripes) {
+            if (stripe.approximateSize() != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    @Override
+    public boolean isFull() {
+        for (MpmcBoundedIntQueue stripe : stripes) {
+            if (stripe.approximateSize() < stripe.capacity()) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    @Override
+    public void addLast(int value) {
+        if (!offer(value)) {
+            throw QueueFullException.INSTANCE;
+        }
+    }
+    
+    @Override
+    public int removeFirst() {
+        long value = pollValue();
+        if (value < 0) {
+            throw QueueEmptyException.INSTANCE;
+        }
+        return (int) value;
+    }
+    
+    @Override
+    public boolean offer(int value) {
+        MpmcBoundedIntQueue[] stripes = this.stripes;
+        int index = home();
+        for (int i = 0; i < stripes.length; i++) {
+            if (stripes[index].offer(value)) {
+                return true;
+            }
+            if (++index == stripes.length) {
+                index = 0;
+            }
+        }
+        return false;
+    }
+    
+    @Override
+    public int poll(int sentinel) {
+        long value = pollValue();
+        return value < 0 ? sentinel : (int) value;
+    }
+    
+    @Override
+    public int addAll(int[] src, int off, int len) {
+        Objects.checkFromIndexSize(off, len, src.length);
+        MpmcBoundedIntQueue[] stripes = this.stripes;
+        int index = home();
+        int added = 0;
+        for (int i = 0; i < stripes.length && added < len; i++) {
+            added += stripes[index].addAll(src, off + added, len - added);
+            if (++index == stripes.length) {
+                index = 0;
+            }
+        }
+        return added;
+    }
+    
+    @Override
+    public int drainTo(int[] dst, int off, int max) {
+        Objects.checkFromIndexSize(off, max, dst.length);
+        MpmcBoundedIntQueue[] stripes = this.stripes;
+        int index = home();
+        int removed = 0;
+        for (int i = 0; i < stripes.length && removed < max; i++) {
+            removed += stripes[index].drainTo(dst, off + removed, max - removed);
+            if (++index == stripes.length) {
+                index = 0;
+            }
+        }
+        return removed;
+    }
+    
+    // retira da faixa preferida ou, se ela estiver vazia, rouba das seguintes
+    private long pollValue() {
+        MpmcBoundedIntQueue[] stripes = this.stripes;
+        int index = home();
+        for (int i = 0; i < stripes.length; i++) {
+            long value = stripes[index].pollValue();
+            if (value >= 0) {
+                return value;
+            }
+            if (++index == stripes.length) {
+                index = 0;
+            }
+        }
+        return -1;
+    }
+    
+    // faixa preferida da thread atual; o id é misturado porque ids
+    // consecutivos (e os de threads virtuais) não se espalham bem sozinhos
+    private int home() {
+        long id = Thread.currentThread().threadId();
+        int hash = (int) ((id * 0x9E3779B97F4A7C15L) >>> 32);
+        return (hash & Integer.MAX_VALUE) % stripes.length;
+    }
+}
@@ -0,0 +1,55 @@
+package com.vev.boundedIntQueue;
+
+import java.util.concurrent.locks.LockSupport;
+
+// Como BlockingBoundedIntQueue espera entre tentativas quando a fila está
+// cheia (put) ou vazia (take). Nenhuma estratégia usa synchronized nem
+// Object.wait, então threads virtuais esperando aqui liberam o carrier.
+public enum WaitStrategy {
+    // menor latência; ocupa um núcleo enquanto espera
+    BUSY_SPIN {
+        @Override
+        void idle(int attempt) {
+            Thread.onSpinWait();
+        }
+    },
+    // cede o processador a cada tentativa
+    YIELD {
+        @Override
+        void idle(int attempt) {
+            Thread.yield();
+        }
+    },
+    // dorme um intervalo curto e fixo a cada tentativa
+    PARK {
+        @Override
+        void idle(int attempt) {
+            LockSupport.parkNanos(MIN_PARK_NANOS);
+        }
+    },
+    // gira, depois cede o processador e por fim dorme intervalos que dobram
+    // a cada tentativa até MAX_PARK_NANOS
+    PARK_WITH_BACKOFF {
+        @Override
+        void idle(int attempt) {
+            if (attempt < SPIN_TRIES) {
+                Thread.onSpinWait();
+            } else if (attempt < SPIN_TRIES + YIELD_TRIES) {
+                Thread.yield();
+            } else {
+                int shift = Math.min(attempt - SPIN_TRIES - YIELD_TRIES, MAX_PARK_SHIFT);
+                LockSupport.parkNanos(MIN_PARK_NANOS << shift);
+            }
+        }
+    };
+    
+    private static final int SPIN_TRIES = 100;
+    private static final int YIELD_TRIES = 10;
+    private static final long MIN_PARK_NANOS = 1_000;
+    // 1 µs << 10 ≈ 1 ms
+    private static final int MAX_PARK_SHIFT = 10;
+    
+    // espera antes da tentativa seguinte; attempt conta as tentativas
+    // já frustradas na operação atual, começando em 0
+    abstract void idle(int attempt);
+}
@@ -0,0 +1,163 @@
+package com.vev.calculator;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.IntConsumer;
+
+// Avalia arquivos com uma expressão de Calculator por linha (ASCII, '\n' ou
+// "\r\n"). O arquivo é mapeado em memória em janelas de tamanho fixo, então
+// pode ser maior que o heap; cada linha é lida direto da janela mapeada, sem
+// String nem cópia. Uma linha inválida gera NumberFormatException com o número
+// da linha (a partir de 1); as linhas anteriores já terão sido entregues.
+public class BulkCalculator {
+    private static final int DEFAULT_WINDOW_SIZE = 64 * 1024 * 1024;
+    private static final int OUTPUT_BUFFER_SIZE = 64 * 1024;
+    // Unsafe.invokeCleaner, quando disponível; sem ele cada janela só é
+    // desmapeada quando o GC coletar o buffer
+    private static final MethodHandle UNMAP = findUnmap();
+    
+    private final int windowSize;
+    
+    public BulkCalculator() {
+        this(DEFAULT_WINDOW_SIZE);
+    }
+    
+    // windowSize limita o tamanho de uma linha: cada janela começa no início
+    // de uma linha e precisa conter ao menos uma linha inteira
+    public BulkCalculator(int windowSize) {
+        if (windowSize <= 0) {
+            throw new IllegalArgumentException("Window size must be positive");
+        }
+        this.windowSize = windowSize;
+    }
+    
+    // entrega o resultado de cada linha, em ordem; retorna o número de linhas
+    public long evaluateLines(Path file, IntConsumer results) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long position = 0;
+            long line = 0;
+            while (position < size) {
+                int length = (int) Math.min(windowSize, size - position);
+                boolean last = position + length == size;
+                MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+                int lineStart = 0;
+                // cada janela é desmapeada assim que termina, em vez de ficar
+                // para o GC (com o padrão de 64 MiB, um arquivo grande
+                // acumularia muitas janelas mapeadas até a próxima coleta)
+                try {
+                    for (int i = 0; i < length; i++) {
+                        if (window.get(i) == '\n') {
+                            results.accept(evaluateLine(window, lineStart, i, ++line));
+                            lineStart = i + 1;
+                        }
+                    }
+                    // última linha sem '\n' final
+                    if (last && lineStart < length) {
+                        results.accept(evaluateLine(window, lineStart, length, ++line));
+                    }
+                } finally {
+                    unmap(window);
+                }
+                if (last) {
+                    break;
+                }
+                if (lineStart == 0) {
+                    throw new IOException("Line " + (line + 1) + " is longer than the window of " + windowSize + " bytes");
+                }
+                position += lineStart;
+            }
+            return line;
+        }
+    }
+    
+    // grava os resultados em results a partir de off; retorna o número de
+    // linhas (IndexOutOfBoundsException se o arquivo tiver mais linhas que o espaço)
+    public int evaluateLines(Path file, int[] results, int off) throws IOException {
+        if (off < 0 || off > results.length) {
+            throw new IndexOutOfBoundsException("Offset " + off + " out of bounds for length " + results.length);
+        }
+        int[] next = {off};
+        evaluateLines(file, value -> results[next[0]++] = value);
+        return next[0] - off;
+    }
+    
+    // escreve cada resultado em out como um int de 4 bytes big-endian;
+    // retorna o número de linhas
+    public long evaluateLines(Path file, WritableByteChannel out) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(OUTPUT_BUFFER_SIZE);
+        try {
+            long lines = evaluateLines(file, value -> {
+                if (buffer.remaining() < Integer.BYTES) {
+                    flush(buffer, out);
+                }
+                buffer.putInt(value);
+            });
+            flush(buffer, out);
+            return lines;
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+    
+    private static int evaluateLine(ByteBuffer window, int start, int end, long line) {
+        if (end > start && window.get(end - 1) == '\r') {
+            end--;
+        }
+        try {
+            return Calculator.evaluateAscii(window, start, end);
+        } catch (NumberFormatException e) {
+            NumberFormatException error = new NumberFormatException("Line " + line + ": " + e.getMessage());
+            error.initCause(e);
+            throw error;
+        }
+    }
+    
+    // só para as janelas criadas em evaluateLines, que nunca saem desta
+    // classe e não são lidas depois de desmapeadas
+    private static void unmap(MappedByteBuffer window) {
+        if (UNMAP == null) {
+            return;
+        }
+        try {
+            UNMAP.invokeExact((ByteBuffer) window);
+        } catch (Throwable e) {
+            // fica para o GC
+        }
+    }
+    
+    private static MethodHandle findUnmap() {
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field field = unsafeClass.getDeclaredField("theUnsafe");
+            field.setAccessible(true);
+            MethodHandle invokeCleaner = MethodHandles.lookup()
+                    .findVirtual(unsafeClass, "invokeCleaner", MethodType.methodType(void.class, ByteBuffer.class));
+            return invokeCleaner.bindTo(field.get(null));
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+    
+    private static void flush(ByteBuffer buffer, WritableByteChannel out) {
+        buffer.flip();
+        try {
+            while (buffer.hasRemaining()) {
+                out.write(buffer);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        buffer.clear();
+    }
+}
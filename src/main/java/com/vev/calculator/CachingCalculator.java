@@ -0,0 +1,116 @@
+package com.vev.calculator;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Calculator com cache dos resultados de evaluate(String), para cargas em que
+// as mesmas expressões se repetem. Leituras que acertam o cache não usam lock:
+// só consultam um ConcurrentHashMap e marcam a entrada como referenciada.
+// Inserções e remoções passam por um lock e seguem o algoritmo CLOCK: o
+// ponteiro percorre as entradas em círculo, dando uma segunda chance às
+// referenciadas desde a última passada e removendo a primeira que não foi.
+// Expressões inválidas não são guardadas; a exceção é lançada a cada chamada.
+public class CachingCalculator extends Calculator {
+    private final int maximumSize;
+    private final ConcurrentHashMap<String, Entry> entries;
+    // entradas na ordem do relógio; ring, hand e used são protegidos por lock
+    private final Entry[] ring;
+    private final ReentrantLock lock = new ReentrantLock();
+    private int hand;
+    private int used;
+    
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    
+    public CachingCalculator(int maximumSize) {
+        this(maximumSize, DEFAULT_PARALLEL_THRESHOLD);
+    }
+    
+    public CachingCalculator(int maximumSize, int parallelThreshold) {
+        super(parallelThreshold);
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("Maximum size must be positive");
+        }
+        this.maximumSize = maximumSize;
+        this.entries = new ConcurrentHashMap<>(Math.min(maximumSize, 1 << 16));
+        this.ring = new Entry[maximumSize];
+    }
+    
+    @Override
+    public int evaluate(String expression) {
+        Entry entry = entries.get(expression);
+        if (entry != null) {
+            // evita escrever na entrada (e disputar sua linha de cache) se ela já está marcada
+            if (!entry.referenced) {
+                entry.referenced = true;
+            }
+            hits.increment();
+            return entry.value;
+        }
+        misses.increment();
+        int value = super.evaluate(expression);
+        admit(new Entry(expression, value));
+        return value;
+    }
+    
+    public int maximumSize() {
+        return maximumSize;
+    }
+    
+    public int size() {
+        return entries.size();
+    }
+    
+    public long hitCount() {
+        return hits.sum();
+    }
+    
+    public long missCount() {
+        return misses.sum();
+    }
+    
+    public long evictionCount() {
+        return evictions.sum();
+    }
+    
+    private void admit(Entry entry) {
+        lock.lock();
+        try {
+            // outra thread pode ter calculado a mesma expressão; como o mapa só
+            // muda sob o lock, a vítima é removida antes da inserção e o mapa
+            // nunca passa de maximumSize entradas
+            if (entries.containsKey(entry.key)) {
+                return;
+            }
+            if (used < maximumSize) {
+                ring[used++] = entry;
+            } else {
+                while (ring[hand].referenced) {
+                    ring[hand].referenced = false;
+                    hand = hand + 1 == maximumSize ? 0 : hand + 1;
+                }
+                entries.remove(ring[hand].key);
+                evictions.increment();
+                ring[hand] = entry;
+                hand = hand + 1 == maximumSize ? 0 : hand + 1;
+            }
+            entries.put(entry.key, entry);
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    private static final class Entry {
+        final String key;
+        final int value;
+        // marcada a cada acerto; o ponteiro do relógio a desmarca ao passar
+        volatile boolean referenced;
+        
+        Entry(String key, int value) {
+            this.key = key;
+            this.value = value;
+        }
+    }
+}
@@ -1,10 +1,323 @@
 package com.vev.calculator;
 
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
 public class Calculator {
+    // a partir deste tamanho (em caracteres) a soma é dividida entre núcleos
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 256 * 1024;
+    // tamanho máximo do trecho somado sequencialmente por uma tarefa
+    private static final int PARALLEL_LEAF_SIZE = 32 * 1024;
+    // o caminho vetorizado de evaluateAscii só é usado quando a JVM foi
+    // iniciada com --add-modules jdk.incubator.vector; sem o módulo, a
+    // classe VectorSum nunca é carregada e o caminho escalar é usado
+    static final boolean VECTOR_AVAILABLE = ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+    
+    private final int parallelThreshold;
+    private final ForkJoinPool pool;
+    
+    public Calculator() {
+        this(DEFAULT_PARALLEL_THRESHOLD);
+    }
+    
+    // Integer.MAX_VALUE desliga o modo paralelo
+    public Calculator(int parallelThreshold) {
+        this(parallelThreshold, ForkJoinPool.commonPool());
+    }
+    
+    public Calculator(int parallelThreshold, ForkJoinPool pool) {
+        if (parallelThreshold <= 0) {
+            throw new IllegalArgumentException("Parallel threshold must be positive");
+        }
+        this.parallelThreshold = parallelThreshold;
+        this.pool = Objects.requireNonNull(pool);
+    }
+    
+    // Segue as regras de expression.split("\\+") com Integer.valueOf em cada
+    // parcela: os '+' do fim são descartados ("5+" vale 5 e "+" vale 0), mas a
+    // expressão vazia e parcelas vazias antes do fim ("+5", "5++3") são inválidas.
     public int evaluate(String expression) {
-        int sum = 0;
-        for (String summand: expression.split("\\+"))
-        sum += Integer.valueOf(summand);
+        if (expression.isEmpty()) {
+            throw new NumberFormatException("For input string: \"\"");
+        }
+        int end = trimTrailingPlus(expression, 0, expression.length());
+        return end == 0 ? 0 : sumMaybeParallel(expression, 0, end);
+    }
+    
+    // Compila uma expressão com + - * /, parênteses e variáveis para avaliação
+    // repetida (veja CompiledExpression); erros de sintaxe geram
+    // IllegalArgumentException com a posição. evaluate(String) continua
+    // aceitando apenas somas, com as regras de sempre. evaluateParallel da
+    // expressão compilada usa o ForkJoinPool deste Calculator.
+    public CompiledExpression compile(String expression) {
+        return CompiledExpression.compile(expression, pool);
+    }
+    
+    // Avalia expression[start, end) sem copiar, com as mesmas regras de
+    // evaluate(String) aplicadas ao trecho.
+    public int evaluate(CharSequence expression, int start, int end) {
+        Objects.checkFromToIndex(start, end, expression.length());
+        if (start == end) {
+            throw new NumberFormatException("For input string: \"\"");
+        }
+        int trimmed = trimTrailingPlus(expression, start, end);
+        return trimmed == start ? 0 : sumMaybeParallel(expression, start, trimmed);
+    }
+    
+    // Como evaluate(String), mas cada parcela pode ocupar toda a faixa de long
+    // (regras de Long.parseLong) e a soma é feita em long. Só estoura, também
+    // silenciosamente, fora da faixa de long; para detectar isso use evaluateExact.
+    public long evaluateLong(String expression) {
+        if (expression.isEmpty()) {
+            throw new NumberFormatException("For input string: \"\"");
+        }
+        int end = trimTrailingPlus(expression, 0, expression.length());
+        long sum = 0;
+        for (int i = 0; i < end; i++) {
+            int termEnd = indexOfPlus(expression, i, end);
+            sum += parseLong(expression, i, termEnd);
+            i = termEnd;
+        }
+        return sum;
+    }
+    
+    // Soma sem estouro: acumula em long com Math.addExact e só passa a usar
+    // BigInteger a partir da parcela que estouraria long (ou que sozinha não
+    // cabe em long), então expressões comuns não criam nenhum BigInteger
+    // intermediário, apenas o resultado. Parcelas seguem as regras de
+    // new BigInteger(String).
+    public BigInteger evaluateExact(String expression) {
+        if (expression.isEmpty()) {
+            throw new NumberFormatException("For input string: \"\"");
+        }
+        int end = trimTrailingPlus(expression, 0, expression.length());
+        long sum = 0;
+        for (int i = 0; i < end; i++) {
+            int termEnd = indexOfPlus(expression, i, end);
+            // até 18 caracteres uma parcela válida sempre cabe em long
+            if (termEnd - i > 18) {
+                return sumBig(expression, i, end, BigInteger.valueOf(sum));
+            }
+            long term = parseLong(expression, i, termEnd);
+            try {
+                sum = Math.addExact(sum, term);
+            } catch (ArithmeticException e) {
+                return sumBig(expression, i, end, BigInteger.valueOf(sum));
+            }
+            i = termEnd;
+        }
+        return BigInteger.valueOf(sum);
+    }
+    
+    private static BigInteger sumBig(CharSequence s, int start, int end, BigInteger sum) {
+        for (int i = start; i < end; i++) {
+            int termEnd = indexOfPlus(s, i, end);
+            sum = sum.add(new BigInteger(s.subSequence(i, termEnd).toString()));
+            i = termEnd;
+        }
         return sum;
     }
+    
+    // Valor da parcela s[start, end) pelas regras de Long.parseLong: até 18
+    // dígitos ASCII são acumulados direto; o resto vai para Long.parseLong.
+    private static long parseLong(CharSequence s, int start, int end) {
+        int i = start;
+        boolean negative = i < end && s.charAt(i) == '-';
+        if (negative) {
+            i++;
+        }
+        if (i == end || end - i > 18) {
+            return Long.parseLong(s, start, end, 10);
+        }
+        long value = 0;
+        for (; i < end; i++) {
+            int digit = s.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return Long.parseLong(s, start, end, 10);
+            }
+            value = value * 10 + digit;
+        }
+        return negative ? -value : value;
+    }
+    
+    // Avalia os bytes ASCII entre position e limit direto no buffer (inclusive
+    // buffers diretos e mapeados em memória), sem alterar sua posição.
+    public int evaluateAscii(ByteBuffer expression) {
+        return evaluateAscii(expression, expression.position(), expression.limit());
+    }
+    
+    // Avalia expression[off, off + len) como bytes ASCII; é a entrada que usa
+    // o caminho vetorizado quando ele está disponível.
+    public int evaluateAscii(byte[] expression, int off, int len) {
+        Objects.checkFromIndexSize(off, len, expression.length);
+        return evaluateAscii(ByteBuffer.wrap(expression), off, off + len);
+    }
+    
+    static int evaluateAscii(ByteBuffer s, int start, int end) {
+        if (start == end) {
+            throw new NumberFormatException("For input string: \"\"");
+        }
+        int trimmed = trimTrailingPlus(s, start, end);
+        if (trimmed == start) {
+            return 0;
+        }
+        if (VECTOR_AVAILABLE && s.hasArray()) {
+            return VectorSum.sum(s.array(), s.arrayOffset() + start, s.arrayOffset() + trimmed);
+        }
+        return sum(s, start, trimmed);
+    }
+    
+    private int sumMaybeParallel(CharSequence s, int start, int end) {
+        if (end - start < parallelThreshold) {
+            return sum(s, start, end);
+        }
+        return pool.invoke(new SumTask(s, start, end));
+    }
+    
+    // Divide o trecho em um '+' perto do meio e soma as metades em paralelo.
+    // A soma de int com estouro é associativa, então o resultado é o mesmo do
+    // caminho sequencial; parcelas vazias nas bordas dos trechos continuam
+    // sendo rejeitadas por sum, já que só o fim da expressão inteira é aparado.
+    // As tarefas nunca são serializadas (ForkJoinTask só é Serializable por
+    // herança).
+    @SuppressWarnings("serial")
+    private static final class SumTask extends RecursiveTask<Integer> {
+        private final CharSequence s;
+        private final int start;
+        private final int end;
+        
+        SumTask(CharSequence s, int start, int end) {
+            this.s = s;
+            this.start = start;
+            this.end = end;
+        }
+        
+        @Override
+        protected Integer compute() {
+            if (end - start <= PARALLEL_LEAF_SIZE) {
+                return sum(s, start, end);
+            }
+            int split = indexOfPlus(s, start + (end - start) / 2, end);
+            if (split == end) {
+                return sum(s, start, end);
+            }
+            SumTask left = new SumTask(s, start, split);
+            left.fork();
+            int right = new SumTask(s, split + 1, end).compute();
+            return left.join() + right;
+        }
+    }
+    
+    static int trimTrailingPlus(CharSequence s, int start, int end) {
+        while (end > start && s.charAt(end - 1) == '+') {
+            end--;
+        }
+        return end;
+    }
+    
+    // Soma em uma única passada as parcelas de s[start, end) separadas por '+',
+    // sem criar substrings: dígitos ASCII são acumulados direto em um long. Uma
+    // parcela fora desse caso (dígitos não ASCII, estouro de int, parcela vazia
+    // ou inválida) é repassada a Integer.parseInt sobre o próprio intervalo, que
+    // devolve o valor ou lança a mesma NumberFormatException de antes.
+    static int sum(CharSequence s, int start, int end) {
+        int sum = 0;
+        int i = start;
+        while (true) {
+            int termStart = i;
+            boolean negative = i < end && s.charAt(i) == '-';
+            if (negative) {
+                i++;
+            }
+            int digitsStart = i;
+            long value = 0;
+            while (i < end) {
+                int digit = s.charAt(i) - '0';
+                if (digit < 0 || digit > 9 || value > Integer.MAX_VALUE) {
+                    break;
+                }
+                value = value * 10 + digit;
+                i++;
+            }
+            long limit = negative ? -(long) Integer.MIN_VALUE : Integer.MAX_VALUE;
+            if (i == digitsStart || (i < end && s.charAt(i) != '+') || value > limit) {
+                int termEnd = indexOfPlus(s, i, end);
+                sum += Integer.parseInt(s, termStart, termEnd, 10);
+                i = termEnd;
+            } else {
+                sum += (int) (negative ? -value : value);
+            }
+            if (i >= end) {
+                return sum;
+            }
+            // pula o '+'
+            i++;
+        }
+    }
+    
+    private static int indexOfPlus(CharSequence s, int from, int end) {
+        while (from < end && s.charAt(from) != '+') {
+            from++;
+        }
+        return from;
+    }
+    
+    static int trimTrailingPlus(ByteBuffer s, int start, int end) {
+        while (end > start && s.get(end - 1) == '+') {
+            end--;
+        }
+        return end;
+    }
+    
+    // Versão de sum para bytes ASCII lidos por índice absoluto. Sem dígitos
+    // não ASCII a considerar, a parcela é um '-' opcional seguido de dígitos
+    // que caibam em um int; qualquer outra coisa é NumberFormatException.
+    static int sum(ByteBuffer s, int start, int end) {
+        int sum = 0;
+        int i = start;
+        while (true) {
+            int termStart = i;
+            boolean negative = i < end && s.get(i) == '-';
+            if (negative) {
+                i++;
+            }
+            int digitsStart = i;
+            long value = 0;
+            while (i < end) {
+                int digit = s.get(i) - '0';
+                if (digit < 0 || digit > 9 || value > Integer.MAX_VALUE) {
+                    break;
+                }
+                value = value * 10 + digit;
+                i++;
+            }
+            long limit = negative ? -(long) Integer.MIN_VALUE : Integer.MAX_VALUE;
+            if (i == digitsStart || (i < end && s.get(i) != '+') || value > limit) {
+                throw invalidTerm(s, termStart, indexOfPlus(s, i, end));
+            }
+            sum += (int) (negative ? -value : value);
+            if (i >= end) {
+                return sum;
+            }
+            // pula o '+'
+            i++;
+        }
+    }
+    
+    private static int indexOfPlus(ByteBuffer s, int from, int end) {
+        while (from < end && s.get(from) != '+') {
+            from++;
+        }
+        return from;
+    }
+    
+    private static NumberFormatException invalidTerm(ByteBuffer s, int start, int end) {
+        byte[] term = new byte[end - start];
+        s.get(start, term);
+        return new NumberFormatException("For input string: \"" + new String(term, StandardCharsets.US_ASCII) + "\"");
+    }
 }
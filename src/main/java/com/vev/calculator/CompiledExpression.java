@@ -0,0 +1,598 @@
+package com.vev.calculator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+// Expressão aritmética compilada por Calculator.compile: inteiros, variáveis,
+// + - * / (divisão inteira), menos unário e parênteses, com a precedência
+// usual. A expressão é analisada uma vez e guardada como um programa pós-fixo
+// em um int[] plano (opcode seguido do operando, quando houver), avaliado por
+// um laço sobre uma pilha de int. A aritmética é de int, com estouro
+// silencioso como em evaluate(String); divisão por zero gera ArithmeticException.
+public final class CompiledExpression {
+    static final int CONST = 0;
+    static final int VAR = 1;
+    static final int ADD = 2;
+    static final int SUB = 3;
+    static final int MUL = 4;
+    static final int DIV = 5;
+    static final int NEG = 6;
+    
+    private static final int[] NO_VARIABLES = new int[0];
+    // linhas processadas por vez na avaliação em colunas: cada nível da pilha
+    // ocupa um bloco, e os blocos cabem juntos no cache L1/L2
+    private static final int BLOCK_ROWS = 1024;
+    // linhas por tarefa na avaliação em colunas paralela
+    private static final int PARALLEL_CHUNK_ROWS = 64 * 1024;
+    // pilha de avaliação reaproveitada por thread, para que evaluate não aloque
+    private static final ThreadLocal<int[]> STACK = ThreadLocal.withInitial(() -> new int[16]);
+    
+    private final String source;
+    private final int[] code;
+    private final int maxStack;
+    private final List<String> variables;
+    // pool do Calculator que compilou a expressão, usado por evaluateParallel
+    private final ForkJoinPool pool;
+    
+    private CompiledExpression(String source, int[] code, int maxStack, List<String> variables, ForkJoinPool pool) {
+        this.source = source;
+        this.code = code;
+        this.maxStack = maxStack;
+        this.variables = variables;
+        this.pool = pool;
+    }
+    
+    static CompiledExpression compile(String source, ForkJoinPool pool) {
+        Parser parser = new Parser(source);
+        parser.parse();
+        return new CompiledExpression(source, parser.code(), parser.maxStack,
+                Collections.unmodifiableList(parser.variables), pool);
+    }
+    
+    // nomes das variáveis, na ordem em que aparecem pela primeira vez; é a
+    // ordem dos valores esperados por evaluate(int[])
+    public List<String> variables() {
+        return variables;
+    }
+    
+    // posição da variável em variables(), ou -1 se ela não aparece na expressão
+    public int variableIndex(String name) {
+        return variables.indexOf(name);
+    }
+    
+    public int evaluate() {
+        return evaluate(NO_VARIABLES);
+    }
+    
+    // values[i] é o valor da variável variables().get(i)
+    public int evaluate(int[] values) {
+        if (values.length < variables.size()) {
+            throw new IllegalArgumentException("Expected " + variables.size() + " variable values but got " + values.length);
+        }
+        int[] stack = STACK.get();
+        if (stack.length < maxStack) {
+            stack = new int[maxStack];
+            STACK.set(stack);
+        }
+        int[] code = this.code;
+        int sp = 0;
+        for (int pc = 0; pc < code.length; ) {
+            switch (code[pc++]) {
+                case CONST -> stack[sp++] = code[pc++];
+                case VAR -> stack[sp++] = values[code[pc++]];
+                case ADD -> {
+                    sp--;
+                    stack[sp - 1] += stack[sp];
+                }
+                case SUB -> {
+                    sp--;
+                    stack[sp - 1] -= stack[sp];
+                }
+                case MUL -> {
+                    sp--;
+                    stack[sp - 1] *= stack[sp];
+                }
+                case DIV -> {
+                    sp--;
+                    stack[sp - 1] /= stack[sp];
+                }
+                case NEG -> stack[sp - 1] = -stack[sp - 1];
+                default -> throw new IllegalStateException("Invalid opcode at " + (pc - 1));
+            }
+        }
+        return stack[0];
+    }
+    
+    // Avaliação em colunas: columns[i] traz os valores da variável
+    // variables().get(i) para cada linha, e results recebe o resultado de cada
+    // linha (results.length linhas). O programa é interpretado uma vez por bloco
+    // de BLOCK_ROWS linhas, e cada instrução vira um laço simples sobre o bloco
+    // inteiro, que o JIT consegue vetorizar (exceto a divisão). Variáveis são
+    // lidas direto das colunas e constantes só são expandidas quando
+    // combinadas com uma coluna. Divisão por zero em qualquer linha gera
+    // ArithmeticException, e results fica parcialmente preenchido.
+    public void evaluate(int[][] columns, int[] results) {
+        checkColumns(columns.length);
+        for (int i = 0; i < variables.size(); i++) {
+            checkColumn(i, columns[i].length, results.length);
+        }
+        evaluateRows(columns, results, 0, results.length);
+    }
+    
+    // como evaluate(int[][], int[]), dividindo as linhas entre as threads do
+    // ForkJoinPool do Calculator que compilou a expressão
+    public void evaluateParallel(int[][] columns, int[] results) {
+        evaluateParallel(columns, results, pool);
+    }
+    
+    public void evaluateParallel(int[][] columns, int[] results, ForkJoinPool pool) {
+        checkColumns(columns.length);
+        for (int i = 0; i < variables.size(); i++) {
+            checkColumn(i, columns[i].length, results.length);
+        }
+        pool.invoke(new RowsTask((from, to) -> evaluateRows(columns, results, from, to), 0, results.length));
+    }
+    
+    // versão com colunas long: a aritmética é feita em long
+    public void evaluate(long[][] columns, long[] results) {
+        checkColumns(columns.length);
+        for (int i = 0; i < variables.size(); i++) {
+            checkColumn(i, columns[i].length, results.length);
+        }
+        evaluateRows(columns, results, 0, results.length);
+    }
+    
+    public void evaluateParallel(long[][] columns, long[] results) {
+        evaluateParallel(columns, results, pool);
+    }
+    
+    public void evaluateParallel(long[][] columns, long[] results, ForkJoinPool pool) {
+        checkColumns(columns.length);
+        for (int i = 0; i < variables.size(); i++) {
+            checkColumn(i, columns[i].length, results.length);
+        }
+        pool.invoke(new RowsTask((from, to) -> evaluateRows(columns, results, from, to), 0, results.length));
+    }
+    
+    private void checkColumns(int columns) {
+        if (columns < variables.size()) {
+            throw new IllegalArgumentException("Expected " + variables.size() + " columns but got " + columns);
+        }
+    }
+    
+    private void checkColumn(int index, int length, int rows) {
+        if (length < rows) {
+            throw new IllegalArgumentException("Column " + variables.get(index) + " has " + length + " rows, expected " + rows);
+        }
+    }
+    
+    // Cada nível da pilha é uma coluna (array + deslocamento) ou, quando
+    // array == null, uma constante; resultados intermediários vão para o bloco
+    // de rascunho do nível.
+    private void evaluateRows(int[][] columns, int[] results, int from, int to) {
+        int[][] scratch = new int[maxStack][Math.min(BLOCK_ROWS, to - from)];
+        int[][] array = new int[maxStack][];
+        int[] offset = new int[maxStack];
+        int[] constant = new int[maxStack];
+        for (int start = from; start < to; start += BLOCK_ROWS) {
+            int n = Math.min(BLOCK_ROWS, to - start);
+            int sp = 0;
+            for (int pc = 0; pc < code.length; ) {
+                int op = code[pc++];
+                switch (op) {
+                    case CONST -> {
+                        array[sp] = null;
+                        constant[sp++] = code[pc++];
+                    }
+                    case VAR -> {
+                        array[sp] = columns[code[pc++]];
+                        offset[sp++] = start;
+                    }
+                    case NEG -> {
+                        int top = sp - 1;
+                        if (array[top] == null) {
+                            constant[top] = -constant[top];
+                        } else {
+                            int[] a = array[top];
+                            int aOff = offset[top];
+                            int[] dst = scratch[top];
+                            for (int i = 0; i < n; i++) {
+                                dst[i] = -a[aOff + i];
+                            }
+                            array[top] = dst;
+                            offset[top] = 0;
+                        }
+                    }
+                    default -> {
+                        int right = --sp;
+                        int left = sp - 1;
+                        if (array[left] == null && array[right] == null) {
+                            constant[left] = apply(op, constant[left], constant[right]);
+                            continue;
+                        }
+                        for (int level = left; level <= right; level++) {
+                            if (array[level] == null) {
+                                Arrays.fill(scratch[level], 0, n, constant[level]);
+                                array[level] = scratch[level];
+                                offset[level] = 0;
+                            }
+                        }
+                        binary(op, array[left], offset[left], array[right], offset[right], scratch[left], n);
+                        array[left] = scratch[left];
+                        offset[left] = 0;
+                    }
+                }
+            }
+            if (array[0] == null) {
+                Arrays.fill(results, start, start + n, constant[0]);
+            } else {
+                System.arraycopy(array[0], offset[0], results, start, n);
+            }
+        }
+    }
+    
+    private static int apply(int op, int a, int b) {
+        return switch (op) {
+            case ADD -> a + b;
+            case SUB -> a - b;
+            case MUL -> a * b;
+            case DIV -> a / b;
+            default -> throw new IllegalStateException("Invalid opcode " + op);
+        };
+    }
+    
+    private static void binary(int op, int[] a, int aOff, int[] b, int bOff, int[] dst, int n) {
+        switch (op) {
+            case ADD -> {
+                for (int i = 0; i < n; i++) {
+                    dst[i] = a[aOff + i] + b[bOff + i];
+                }
+            }
+            case SUB -> {
+                for (int i = 0; i < n; i++) {
+                    dst[i] = a[aOff + i] - b[bOff + i];
+                }
+            }
+            case MUL -> {
+                for (int i = 0; i < n; i++) {
+                    dst[i] = a[aOff + i] * b[bOff + i];
+                }
+            }
+            case DIV -> {
+                for (int i = 0; i < n; i++) {
+                    dst[i] = a[aOff + i] / b[bOff + i];
+                }
+            }
+            default -> throw new IllegalStateException("Invalid opcode " + op);
+        }
+    }
+    
+    private void evaluateRows(long[][] columns, long[] results, int from, int to) {
+        long[][] scratch = new long[maxStack][Math.min(BLOCK_ROWS, to - from)];
+        long[][] array = new long[maxStack][];
+        int[] offset = new int[maxStack];
+        long[] constant = new long[maxStack];
+        for (int start = from; start < to; start += BLOCK_ROWS) {
+            int n = Math.min(BLOCK_ROWS, to - start);
+            int sp = 0;
+            for (int pc = 0; pc < code.length; ) {
+                int op = code[pc++];
+                switch (op) {
+                    case CONST -> {
+                        array[sp] = null;
+                        constant[sp++] = code[pc++];
+                    }
+                    case VAR -> {
+                        array[sp] = columns[code[pc++]];
+                        offset[sp++] = start;
+                    }
+                    case NEG -> {
+                        int top = sp - 1;
+                        if (array[top] == null) {
+                            constant[top] = -constant[top];
+                        } else {
+                            long[] a = array[top];
+                            int aOff = offset[top];
+                            long[] dst = scratch[top];
+                            for (int i = 0; i < n; i++) {
+                                dst[i] = -a[aOff + i];
+                            }
+                            array[top] = dst;
+                            offset[top] = 0;
+                        }
+                    }
+                    default -> {
+                        int right = --sp;
+                        int left = sp - 1;
+                        if (array[left] == null && array[right] == null) {
+                            constant[left] = apply(op, constant[left], constant[right]);
+                            continue;
+                        }
+                        for (int level = left; level <= right; level++) {
+                            if (array[level] == null) {
+                                Arrays.fill(scratch[level], 0, n, constant[level]);
+                                array[level] = scratch[level];
+                                offset[level] = 0;
+                            }
+                        }
+                        binary(op, array[left], offset[left], array[right], offset[right], scratch[left], n);
+                        array[left] = scratch[left];
+                        offset[left] = 0;
+                    }
+                }
+            }
+            if (array[0] == null) {
+                Arrays.fill(results, start, start + n, constant[0]);
+            } else {
+                System.arraycopy(array[0], offset[0], results, start, n);
+            }
+        }
+    }
+    
+    private static long apply(int op, long a, long b) {
+        return switch (op) {
+            case ADD -> a + b;
+            case SUB -> a - b;
+            case MUL -> a * b;
+            case DIV -> a / b;
+            default -> throw new IllegalStateException("Invalid opcode " + op);
+        };
+    }
+    
+    private static void binary(int op, long[] a, int aOff, long[] b, int bOff, long[] dst, int n) {
+        switch (op) {
+            case ADD -> {
+                for (int i = 0; i < n; i++) {
+                    dst[i] = a[aOff + i] + b[bOff + i];
+                }
+            }
+            case SUB -> {
+                for (int i = 0; i < n; i++) {
+                    dst[i] = a[aOff + i] - b[bOff + i];
+                }
+            }
+            case MUL -> {
+                for (int i = 0; i < n; i++) {
+                    dst[i] = a[aOff + i] * b[bOff + i];
+                }
+            }
+            case DIV -> {
+                for (int i = 0; i < n; i++) {
+                    dst[i] = a[aOff + i] / b[bOff + i];
+                }
+            }
+            default -> throw new IllegalStateException("Invalid opcode " + op);
+        }
+    }
+    
+    int[] code() {
+        return code;
+    }
+    
+    int maxStack() {
+        return maxStack;
+    }
+    
+    @Override
+    public String toString() {
+        return source;
+    }
+    
+    private interface RowRange {
+        void evaluate(int from, int to);
+    }
+    
+    // Divide [from, to) ao meio até trechos de no máximo PARALLEL_CHUNK_ROWS
+    // linhas, avaliados por rows; as tarefas nunca são serializadas.
+    @SuppressWarnings("serial")
+    private static final class RowsTask extends RecursiveAction {
+        private final RowRange rows;
+        private final int from;
+        private final int to;
+        
+        RowsTask(RowRange rows, int from, int to) {
+            this.rows = rows;
+            this.from = from;
+            this.to = to;
+        }
+        
+        @Override
+        protected void compute() {
+            if (to - from <= PARALLEL_CHUNK_ROWS) {
+                rows.evaluate(from, to);
+                return;
+            }
+            int middle = from + (to - from) / 2;
+            invokeAll(new RowsTask(rows, from, middle), new RowsTask(rows, middle, to));
+        }
+    }
+    
+    // Analisador descendente recursivo que emite o código pós-fixo enquanto lê:
+    //   expr    := term (('+' | '-') term)*
+    //   term    := unary (('*' | '/') unary)*
+    //   unary   := '-' unary | primary
+    //   primary := número | identificador | '(' expr ')'
+    // Espaços entre os símbolos são ignorados.
+    private static final class Parser {
+        // limite de parênteses e '-' unários aninhados, para que entradas
+        // patológicas gerem IllegalArgumentException em vez de StackOverflowError
+        private static final int MAX_NESTING = 256;
+        
+        private final String s;
+        private int pos;
+        private int nesting;
+        private int[] code = new int[16];
+        private int length;
+        private int depth;
+        private int maxStack;
+        private final List<String> variables = new ArrayList<>();
+        
+        Parser(String s) {
+            this.s = s;
+        }
+        
+        void parse() {
+            expr();
+            skipSpaces();
+            if (pos < s.length()) {
+                throw error("Unexpected '" + s.charAt(pos) + "'");
+            }
+        }
+        
+        int[] code() {
+            int[] result = new int[length];
+            System.arraycopy(code, 0, result, 0, length);
+            return result;
+        }
+        
+        private void expr() {
+            term();
+            while (true) {
+                if (accept('+')) {
+                    term();
+                    binary(ADD);
+                } else if (accept('-')) {
+                    term();
+                    binary(SUB);
+                } else {
+                    return;
+                }
+            }
+        }
+        
+        private void term() {
+            unary();
+            while (true) {
+                if (accept('*')) {
+                    unary();
+                    binary(MUL);
+                } else if (accept('/')) {
+                    unary();
+                    binary(DIV);
+                } else {
+                    return;
+                }
+            }
+        }
+        
+        private void unary() {
+            if (accept('-')) {
+                skipSpaces();
+                // -2147483648 só é representável como literal negativo
+                if (pos < s.length() && isDigit(s.charAt(pos))) {
+                    push(CONST, (int) -number());
+                } else {
+                    enter();
+                    unary();
+                    nesting--;
+                    emit(NEG);
+                }
+            } else {
+                primary();
+            }
+        }
+        
+        private void primary() {
+            skipSpaces();
+            if (pos == s.length()) {
+                throw error("Unexpected end of expression");
+            }
+            char c = s.charAt(pos);
+            if (isDigit(c)) {
+                long value = number();
+                if (value > Integer.MAX_VALUE) {
+                    throw error("Number out of int range");
+                }
+                push(CONST, (int) value);
+            } else if (Character.isLetter(c) || c == '_') {
+                int start = pos;
+                while (pos < s.length() && (Character.isLetterOrDigit(s.charAt(pos)) || s.charAt(pos) == '_')) {
+                    pos++;
+                }
+                String name = s.substring(start, pos);
+                int index = variables.indexOf(name);
+                if (index < 0) {
+                    index = variables.size();
+                    variables.add(name);
+                }
+                push(VAR, index);
+            } else if (accept('(')) {
+                enter();
+                expr();
+                nesting--;
+                if (!accept(')')) {
+                    throw error("Expected ')'");
+                }
+            } else {
+                throw error("Unexpected '" + c + "'");
+            }
+        }
+        
+        // lê dígitos ASCII; o valor pode ir até 2147483648 (para o literal negativo)
+        private long number() {
+            int start = pos;
+            long value = 0;
+            while (pos < s.length() && isDigit(s.charAt(pos))) {
+                value = value * 10 + (s.charAt(pos++) - '0');
+                if (value > -(long) Integer.MIN_VALUE) {
+                    pos = start;
+                    throw error("Number out of int range");
+                }
+            }
+            return value;
+        }
+        
+        private boolean accept(char c) {
+            skipSpaces();
+            if (pos < s.length() && s.charAt(pos) == c) {
+                pos++;
+                return true;
+            }
+            return false;
+        }
+        
+        private void skipSpaces() {
+            while (pos < s.length() && Character.isWhitespace(s.charAt(pos))) {
+                pos++;
+            }
+        }
+        
+        private void push(int opcode, int operand) {
+            emit(opcode);
+            emit(operand);
+            maxStack = Math.max(maxStack, ++depth);
+        }
+        
+        private void binary(int opcode) {
+            emit(opcode);
+            depth--;
+        }
+        
+        private void emit(int value) {
+            if (length == code.length) {
+                int[] grown = new int[length * 2];
+                System.arraycopy(code, 0, grown, 0, length);
+                code = grown;
+            }
+            code[length++] = value;
+        }
+        
+        private static boolean isDigit(char c) {
+            return c >= '0' && c <= '9';
+        }
+        
+        private void enter() {
+            if (++nesting > MAX_NESTING) {
+                throw error("Expression nested deeper than " + MAX_NESTING + " levels");
+            }
+        }
+        
+        private IllegalArgumentException error(String message) {
+            return new IllegalArgumentException(message + " at position " + pos + " in \"" + s + "\"");
+        }
+    }
+}
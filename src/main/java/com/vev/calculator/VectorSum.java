@@ -0,0 +1,114 @@
+package com.vev.calculator;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+// Caminho vetorizado de Calculator.sum para bytes ASCII em um byte[]. Só é
+// carregada quando o módulo jdk.incubator.vector está presente (veja
+// Calculator.VECTOR_AVAILABLE).
+//
+// Cada passo carrega um vetor de bytes e classifica todas as posições de uma
+// vez em dois bitmasks: separadores '+' e dígitos. Os separadores delimitam as
+// parcelas, e cada parcela de até 8 dígitos é convertida com um único load de
+// 8 bytes e três multiplicações (SWAR). Qualquer caso fora do comum (sinal,
+// outro caractere, parcela vazia ou longa demais) devolve a expressão inteira
+// ao caminho escalar, que produz o mesmo resultado ou a mesma exceção.
+final class VectorSum {
+    private static final VectorSpecies<Byte> SPECIES = ByteVector.SPECIES_PREFERRED.length() <= Long.SIZE
+            ? ByteVector.SPECIES_PREFERRED
+            : ByteVector.SPECIES_256;
+    private static final int LANES = SPECIES.length();
+    private static final long ALL_LANES = LANES == Long.SIZE ? -1L : (1L << LANES) - 1;
+    private static final VarHandle LONG_LE = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+    
+    private VectorSum() {
+    }
+    
+    static int sum(byte[] a, int start, int end) {
+        int sum = 0;
+        int termStart = start;
+        int i = start;
+        for (; i <= end - LANES; i += LANES) {
+            ByteVector v = ByteVector.fromArray(SPECIES, a, i);
+            long plus = v.compare(VectorOperators.EQ, (byte) '+').toLong();
+            long digits = v.sub((byte) '0').compare(VectorOperators.UNSIGNED_LE, (byte) 9).toLong();
+            if ((plus | digits) != ALL_LANES) {
+                return scalar(a, start, end);
+            }
+            while (plus != 0) {
+                int separator = i + Long.numberOfTrailingZeros(plus);
+                long term = term(a, termStart, separator);
+                if (term < 0) {
+                    return scalar(a, start, end);
+                }
+                sum += (int) term;
+                termStart = separator + 1;
+                plus &= plus - 1;
+            }
+        }
+        for (; i < end; i++) {
+            byte c = a[i];
+            if (c == '+') {
+                long term = term(a, termStart, i);
+                if (term < 0) {
+                    return scalar(a, start, end);
+                }
+                sum += (int) term;
+                termStart = i + 1;
+            } else if (c < '0' || c > '9') {
+                return scalar(a, start, end);
+            }
+        }
+        long last = term(a, termStart, end);
+        if (last < 0) {
+            return scalar(a, start, end);
+        }
+        return sum + (int) last;
+    }
+    
+    // valor da parcela de dígitos a[from, to), ou -1 se ela estiver vazia,
+    // tiver mais de 10 dígitos ou não couber em um int
+    private static long term(byte[] a, int from, int to) {
+        int length = to - from;
+        if (length == 0 || length > 10) {
+            return -1;
+        }
+        if (to < Long.BYTES) {
+            long value = 0;
+            for (int i = from; i < to; i++) {
+                value = value * 10 + (a[i] - '0');
+            }
+            return value;
+        }
+        if (length <= 8) {
+            return eightDigits(a, to, length);
+        }
+        long high = a[from] - '0';
+        if (length == 10) {
+            high = high * 10 + (a[from + 1] - '0');
+        }
+        long value = high * 100_000_000L + eightDigits(a, to, 8);
+        return value > Integer.MAX_VALUE ? -1 : value;
+    }
+    
+    // converte os length (1 a 8) dígitos que terminam em a[to - 1]: lê os 8
+    // bytes que terminam ali, zera os que ficam antes da parcela e combina os
+    // dígitos aos pares, depois de 4 em 4 e por fim de 8 em 8
+    private static long eightDigits(byte[] a, int to, int length) {
+        long chunk = (long) LONG_LE.get(a, to - Long.BYTES) & 0x0F0F0F0F0F0F0F0FL;
+        chunk &= -1L << ((Long.BYTES - length) * Byte.SIZE);
+        chunk = (chunk * 10 + (chunk >>> 8)) & 0x00FF00FF00FF00FFL;
+        chunk = (chunk * 100 + (chunk >>> 16)) & 0x0000FFFF0000FFFFL;
+        return (chunk * 10_000 + (chunk >>> 32)) & 0xFFFFFFFFL;
+    }
+    
+    private static int scalar(byte[] a, int start, int end) {
+        return Calculator.sum(ByteBuffer.wrap(a), start, end);
+    }
+}
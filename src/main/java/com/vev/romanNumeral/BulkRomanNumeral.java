@@ -0,0 +1,216 @@
+package com.vev.romanNumeral;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+// Converte numerais romanos ASCII separados por um byte delimitador (por
+// exemplo '\n' ou ','), com as mesmas regras de RomanNumeral.convert. Cada
+// registro é lido direto dos bytes, sem criar String; um '\r' no fim do
+// registro é ignorado e um registro vazio vale 0, mas um delimitador no fim da
+// entrada não gera registro extra. Um registro inválido gera
+// IllegalArgumentException com o byte em que o registro começa (contado a
+// partir do início do buffer ou do stream); os registros anteriores já terão
+// sido entregues.
+public class BulkRomanNumeral {
+    private static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+    // abaixo disso o stream paralelo não divide mais o buffer
+    private static final int MIN_SPLIT_SIZE = 16 * 1024;
+    
+    private final byte delimiter;
+    
+    public BulkRomanNumeral() {
+        this((byte) '\n');
+    }
+    
+    public BulkRomanNumeral(byte delimiter) {
+        if (delimiter < 0 || delimiter == '\r' || RomanNumeral.isDigit(delimiter)) {
+            throw new IllegalArgumentException("Invalid delimiter " + delimiter);
+        }
+        this.delimiter = delimiter;
+    }
+    
+    // registros entre position e limit de buffer, sem alterar sua posição;
+    // retorna o número de registros
+    public long convertAll(ByteBuffer buffer, IntConsumer results) {
+        Spliterator.OfInt records = new BufferSpliterator(buffer, buffer.position(), buffer.limit());
+        long count = 0;
+        while (records.tryAdvance(results)) {
+            count++;
+        }
+        return count;
+    }
+    
+    public long convertAll(InputStream in, IntConsumer results) throws IOException {
+        Spliterator.OfInt records = new StreamSpliterator(in);
+        long count = 0;
+        try {
+            while (records.tryAdvance(results)) {
+                count++;
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        return count;
+    }
+    
+    // Stream ordenado dos registros do buffer. Com .parallel(), o buffer é
+    // dividido ao meio (no delimitador seguinte) enquanto os pedaços tiverem
+    // ao menos MIN_SPLIT_SIZE bytes.
+    public IntStream stream(ByteBuffer buffer) {
+        return StreamSupport.intStream(new BufferSpliterator(buffer, buffer.position(), buffer.limit()), false);
+    }
+    
+    // stream sequencial dos registros lidos de in, que não é fechado; erros de
+    // leitura aparecem como UncheckedIOException
+    public IntStream stream(InputStream in) {
+        return StreamSupport.intStream(new StreamSpliterator(in), false);
+    }
+    
+    // offset é a posição, na entrada, do byte 0 de buffer
+    private int convertRecord(ByteBuffer buffer, int start, int end, long offset) {
+        if (end > start && buffer.get(end - 1) == '\r') {
+            end--;
+        }
+        try {
+            return RomanNumeral.convert(buffer, start, end);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Record at byte " + (offset + start) + ": " + e.getMessage(), e);
+        }
+    }
+    
+    private int indexOfDelimiter(ByteBuffer buffer, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (buffer.get(i) == delimiter) {
+                return i;
+            }
+        }
+        return -1;
+    }
+    
+    private final class BufferSpliterator implements Spliterator.OfInt {
+        private final ByteBuffer buffer;
+        private int index;
+        private final int end;
+        
+        BufferSpliterator(ByteBuffer buffer, int index, int end) {
+            this.buffer = buffer;
+            this.index = index;
+            this.end = end;
+        }
+        
+        @Override
+        public boolean tryAdvance(IntConsumer action) {
+            if (index >= end) {
+                return false;
+            }
+            int recordEnd = indexOfDelimiter(buffer, index, end);
+            if (recordEnd < 0) {
+                recordEnd = end;
+            }
+            int value = convertRecord(buffer, index, recordEnd, 0);
+            index = recordEnd + 1;
+            action.accept(value);
+            return true;
+        }
+        
+        // devolve a primeira metade, terminando logo após um delimitador
+        @Override
+        public Spliterator.OfInt trySplit() {
+            if (end - index < 2 * MIN_SPLIT_SIZE) {
+                return null;
+            }
+            int split = indexOfDelimiter(buffer, index + (end - index) / 2, end);
+            if (split < 0 || split + 1 >= end) {
+                return null;
+            }
+            Spliterator.OfInt prefix = new BufferSpliterator(buffer, index, split + 1);
+            index = split + 1;
+            return prefix;
+        }
+        
+        // em bytes: um limite superior do número de registros
+        @Override
+        public long estimateSize() {
+            return end - index;
+        }
+        
+        @Override
+        public int characteristics() {
+            return ORDERED | NONNULL | IMMUTABLE;
+        }
+    }
+    
+    // Lê in em blocos; um registro que não cabe no bloco faz o buffer crescer.
+    private final class StreamSpliterator extends Spliterators.AbstractIntSpliterator {
+        private final InputStream in;
+        private byte[] bytes = new byte[DEFAULT_BUFFER_SIZE];
+        private ByteBuffer view = ByteBuffer.wrap(bytes);
+        private int start;
+        private int limit;
+        private boolean eof;
+        // bytes já descartados do início do buffer
+        private long offset;
+        
+        StreamSpliterator(InputStream in) {
+            super(Long.MAX_VALUE, ORDERED | NONNULL);
+            this.in = in;
+        }
+        
+        @Override
+        public boolean tryAdvance(IntConsumer action) {
+            int scanned = start;
+            while (true) {
+                int recordEnd = indexOfDelimiter(view, scanned, limit);
+                if (recordEnd >= 0) {
+                    int value = convertRecord(view, start, recordEnd, offset);
+                    start = recordEnd + 1;
+                    action.accept(value);
+                    return true;
+                }
+                if (eof) {
+                    if (start == limit) {
+                        return false;
+                    }
+                    int value = convertRecord(view, start, limit, offset);
+                    start = limit;
+                    action.accept(value);
+                    return true;
+                }
+                scanned = limit - start;
+                fill();
+            }
+        }
+        
+        // move o registro incompleto para o início do buffer e lê mais bytes
+        private void fill() {
+            int pending = limit - start;
+            if (pending == bytes.length) {
+                bytes = Arrays.copyOf(bytes, bytes.length * 2);
+                view = ByteBuffer.wrap(bytes);
+            } else {
+                System.arraycopy(bytes, start, bytes, 0, pending);
+            }
+            offset += start;
+            start = 0;
+            limit = pending;
+            try {
+                int read = in.read(bytes, limit, bytes.length - limit);
+                if (read < 0) {
+                    eof = true;
+                } else {
+                    limit += read;
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.vev.romanNumeral;
+
+public class InvalidRomanNumeralException extends IllegalArgumentException {
+    private static final long serialVersionUID = 1L;
+    
+    // índice do caractere rejeitado (para a string vazia, 0)
+    private final int position;
+    
+    public InvalidRomanNumeralException(String numeral, int position) {
+        super("Invalid Roman numeral \"" + numeral + "\" at position " + position);
+        this.position = position;
+    }
+    
+    public int getPosition() {
+        return position;
+    }
+}
@@ -1,34 +1,223 @@
 package com.vev.romanNumeral;
-import java.util.Map;
-import java.util.HashMap;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
 
 public class RomanNumeral {
     
-    private static Map<Character, Integer> map;
+    public static final int MIN_VALUE = 1;
+    public static final int MAX_VALUE = 3999;
+    
+    // valor de cada algarismo indexado pelo próprio caractere; 0 marca
+    // caractere inválido
+    private static final int[] VALUES = new int[128];
+    
+    // classe de cada algarismo na tabela de transições (1 a 7); 0 marca
+    // caractere inválido
+    private static final byte[] SYMBOLS = new byte[128];
+    private static final char[] DIGITS = {'I', 'V', 'X', 'L', 'C', 'D', 'M'};
+    
+    // Autômato de convertStrict. Cada entrada de TRANSITIONS, indexada por
+    // estado * 8 + classe do caractere, guarda (delta << 8) | próximo estado, e
+    // 0 quando a transição não existe. Os estados são START, M1 a M3 para os
+    // milhares e, para cada casa abaixo (centenas, dezenas, unidades), ONE1 a
+    // ONE3, FIVE, FIVE1 a FIVE3, FOUR e NINE. O delta de uma subtração já
+    // desconta o algarismo somado antes: IV soma 1 e depois 5 - 2 * 1.
+    private static final int START = 0;
+    private static final int PLACE_STATES = 9;
+    private static final int ONE1 = 0, FIVE = 3, FOUR = 7, NINE = 8;
+    private static final int STATES = 4 + 3 * PLACE_STATES;
+    private static final int[] TRANSITIONS = new int[STATES * 8];
     
     static {
-        map = new HashMap<>();
-        map.put('I', 1);
-        map.put('V', 5);
-        map.put('X', 10);
-        map.put('L', 50);
-        map.put('C', 100);
-        map.put('D', 500);
-        map.put('M', 1000);
+        VALUES['I'] = 1;
+        VALUES['V'] = 5;
+        VALUES['X'] = 10;
+        VALUES['L'] = 50;
+        VALUES['C'] = 100;
+        VALUES['D'] = 500;
+        VALUES['M'] = 1000;
+        for (int i = 0; i < DIGITS.length; i++) {
+            SYMBOLS[DIGITS[i]] = (byte) (i + 1);
+        }
+        
+        // milhares: M, MM, MMM
+        for (int state = START; state < 3; state++) {
+            transition(state, 'M', state + 1, 1000);
+        }
+        // casas 2 (centenas), 1 (dezenas) e 0 (unidades); `unit` é o algarismo
+        // de valor 1 da casa, seguido do de 5 e do de 10
+        for (int place = 2; place >= 0; place--) {
+            int unit = 2 * place;
+            char one = DIGITS[unit], five = DIGITS[unit + 1], ten = DIGITS[unit + 2];
+            int value = VALUES[one];
+            int base = placeBase(place);
+            
+            transition(base + ONE1, one, base + ONE1 + 1, value);
+            transition(base + ONE1 + 1, one, base + ONE1 + 2, value);
+            transition(base + ONE1, five, base + FOUR, 3 * value);
+            transition(base + ONE1, ten, base + NINE, 8 * value);
+            for (int i = 0; i < 3; i++) {
+                transition(base + FIVE + i, one, base + FIVE + i + 1, value);
+            }
+            // qualquer estado das casas acima (ou START) pode começar esta casa
+            for (int state = START; state < base; state++) {
+                transition(state, one, base + ONE1, value);
+                transition(state, five, base + FIVE, 5 * value);
+            }
+        }
+    }
+    
+    private static int placeBase(int place) {
+        return 4 + (2 - place) * PLACE_STATES;
     }
     
+    private static void transition(int state, char c, int next, int delta) {
+        TRANSITIONS[state * 8 + SYMBOLS[c]] = (delta << 8) | next;
+    }
+    
+    // Percorre da direita para a esquerda guardando o valor do algarismo
+    // seguinte: cada caractere é lido uma única vez, e o resultado é o mesmo
+    // de comparar cada algarismo com o próximo da esquerda para a direita.
     public int convert(String s) {
         int convertedNumber = 0;
-        for (int i = 0; i < s.length(); i++) {
-            int currentNumber = map.get(s.charAt(i));
-            int next = i+1 < s.length()?map.get(s.charAt(i + 1)):0;
+        int next = 0;
+        for (int i = s.length() - 1; i >= 0; i--) {
+            int currentNumber = value(s.charAt(i), i);
             
             if (currentNumber >= next) {
                 convertedNumber += currentNumber;
             } else {
                 convertedNumber -= currentNumber;
             }
+            next = currentNumber;
         }
         return convertedNumber;
     }
+    
+    // Converte cada elemento como convert; o primeiro elemento inválido
+    // interrompe a conversão com a exceção correspondente.
+    public int[] convertAll(String[] numerals) {
+        int[] results = new int[numerals.length];
+        for (int i = 0; i < numerals.length; i++) {
+            results[i] = convert(numerals[i]);
+        }
+        return results;
+    }
+    
+    public int[] convertAll(List<? extends CharSequence> numerals) {
+        int[] results = new int[numerals.size()];
+        int i = 0;
+        for (CharSequence numeral : numerals) {
+            results[i++] = numeral instanceof String s ? convert(s) : convert(numeral, 0, numeral.length());
+        }
+        return results;
+    }
+    
+    // mesmas regras de convert para o trecho [start, end) de s; as posições
+    // nas mensagens de erro são relativas a start
+    static int convert(CharSequence s, int start, int end) {
+        int convertedNumber = 0;
+        int next = 0;
+        for (int i = end - 1; i >= start; i--) {
+            int currentNumber = value(s.charAt(i), i - start);
+            convertedNumber += currentNumber >= next ? currentNumber : -currentNumber;
+            next = currentNumber;
+        }
+        return convertedNumber;
+    }
+    
+    // mesmas regras de convert para os bytes ASCII [start, end) de buffer,
+    // sem alterar sua posição
+    static int convert(ByteBuffer buffer, int start, int end) {
+        int convertedNumber = 0;
+        int next = 0;
+        for (int i = end - 1; i >= start; i--) {
+            int currentNumber = value((char) (buffer.get(i) & 0xFF), i - start);
+            convertedNumber += currentNumber >= next ? currentNumber : -currentNumber;
+            next = currentNumber;
+        }
+        return convertedNumber;
+    }
+    
+    // Conversão estrita, em uma passada pelo autômato: aceita apenas a forma
+    // canônica de 1 a 3999 (nada de "IIII", "VX", "IM" ou string vazia) e
+    // rejeita o resto com InvalidRomanNumeralException indicando a posição.
+    public int convertStrict(String s) {
+        int state = START;
+        int convertedNumber = 0;
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            int entry = c < SYMBOLS.length ? TRANSITIONS[state * 8 + SYMBOLS[c]] : 0;
+            if (entry == 0) {
+                throw new InvalidRomanNumeralException(s, i);
+            }
+            convertedNumber += entry >>> 8;
+            state = entry & 0xFF;
+        }
+        if (state == START) {
+            throw new InvalidRomanNumeralException(s, 0);
+        }
+        return convertedNumber;
+    }
+    
+    // Representação romana de n (1 a 3999), vinda de uma tabela montada uma
+    // única vez: não há concatenação nem alocação por chamada.
+    public String toRoman(int n) {
+        checkRange(n);
+        return Table.ROMAN[n];
+    }
+    
+    public StringBuilder appendTo(StringBuilder sb, int n) {
+        checkRange(n);
+        return sb.append(Table.ROMAN[n]);
+    }
+    
+    public <A extends Appendable> A appendTo(A out, int n) throws IOException {
+        checkRange(n);
+        out.append(Table.ROMAN[n]);
+        return out;
+    }
+    
+    private static void checkRange(int n) {
+        if (n < MIN_VALUE || n > MAX_VALUE) {
+            throw new IllegalArgumentException("Value must be between " + MIN_VALUE + " and " + MAX_VALUE + ": " + n);
+        }
+    }
+    
+    static boolean isDigit(int c) {
+        return c >= 0 && c < VALUES.length && VALUES[c] != 0;
+    }
+    
+    static int value(char c, int position) {
+        int value = c < VALUES.length ? VALUES[c] : 0;
+        if (value == 0) {
+            throw new IllegalArgumentException("Invalid Roman numeral character '" + c + "' at position " + position);
+        }
+        return value;
+    }
+    
+    // carregada só no primeiro toRoman/appendTo, para que convert não pague a
+    // montagem da tabela
+    private static final class Table {
+        static final String[] ROMAN = new String[MAX_VALUE + 1];
+        
+        static {
+            int[] values = {1000, 900, 500, 400, 100, 90, 50, 40, 10, 9, 5, 4, 1};
+            String[] symbols = {"M", "CM", "D", "CD", "C", "XC", "L", "XL", "X", "IX", "V", "IV", "I"};
+            StringBuilder sb = new StringBuilder(16);
+            for (int n = MIN_VALUE; n <= MAX_VALUE; n++) {
+                sb.setLength(0);
+                int rest = n;
+                for (int i = 0; i < values.length; i++) {
+                    while (rest >= values[i]) {
+                        sb.append(symbols[i]);
+                        rest -= values[i];
+                    }
+                }
+                ROMAN[n] = sb.toString();
+            }
+        }
+    }
 }
@@ -0,0 +1,192 @@
+package com.boundedIntQueue;
+
+import com.vev.boundedIntQueue.BlockingBoundedIntQueue;
+import com.vev.boundedIntQueue.BoundedIntQueue;
+import com.vev.boundedIntQueue.QueueEmptyException;
+import com.vev.boundedIntQueue.QueueFullException;
+import com.vev.boundedIntQueue.SpscBoundedIntQueue;
+import com.vev.boundedIntQueue.WaitStrategy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("BlockingBoundedIntQueue Tests")
+public class BlockingBoundedIntQueueTests extends BoundedIntQueueContractTest {
+    
+    private BlockingBoundedIntQueue queue;
+    private final int DEFAULT_CAPACITY = 3;
+    
+    @BeforeEach
+    void setUp() {
+        queue = new BlockingBoundedIntQueue(DEFAULT_CAPACITY);
+    }
+    
+    @Override
+    protected BoundedIntQueue create(int capacity) {
+        return new BlockingBoundedIntQueue(capacity);
+    }
+    
+    @Test
+    @DisplayName("Non-blocking methods should keep the BoundedIntQueue contract")
+    void testNonBlockingContract() {
+        assertEquals(DEFAULT_CAPACITY, queue.capacity());
+        assertThrows(QueueEmptyException.class, () -> queue.removeFirst());
+        
+        queue.addLast(1);
+        queue.addLast(2);
+        queue.addLast(3);
+        assertTrue(queue.isFull());
+        assertThrows(QueueFullException.class, () -> queue.addLast(4));
+        assertEquals(1, queue.removeFirst());
+    }
+    
+    @Test
+    @DisplayName("Constructors should reject a non-positive capacity and null arguments")
+    void testInvalidConstructorArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new BlockingBoundedIntQueue(0));
+        assertThrows(IllegalArgumentException.class, () -> new BlockingBoundedIntQueue(-1, WaitStrategy.YIELD));
+        assertThrows(NullPointerException.class, () -> new BlockingBoundedIntQueue(1, null));
+        assertThrows(NullPointerException.class, () -> new BlockingBoundedIntQueue(null, WaitStrategy.YIELD));
+    }
+    
+    @Test
+    @DisplayName("Timed offer() and poll() should give up after the timeout")
+    void testTimeouts() throws InterruptedException {
+        assertEquals(-1, queue.poll(-1, 10, TimeUnit.MILLISECONDS));
+        
+        queue.put(1);
+        queue.put(2);
+        queue.put(3);
+        assertFalse(queue.offer(4, 10, TimeUnit.MILLISECONDS));
+        assertEquals(3, queue.size());
+        
+        assertEquals(1, queue.poll(-1, 10, TimeUnit.MILLISECONDS));
+        assertTrue(queue.offer(4, 10, TimeUnit.MILLISECONDS));
+    }
+    
+    @Test
+    @DisplayName("take() should return elements equal to any sentinel value")
+    void testTakeAnyValue() throws InterruptedException {
+        queue.put(-1);
+        queue.put(0);
+        assertEquals(-1, queue.take());
+        assertEquals(0, queue.poll(0, 10, TimeUnit.MILLISECONDS));
+    }
+    
+    @Test
+    @DisplayName("take() should throw InterruptedException when the waiting thread is interrupted")
+    void testTakeInterrupted() throws InterruptedException {
+        List<Throwable> failures = new ArrayList<>();
+        Thread consumer = new Thread(() -> {
+            try {
+                queue.take();
+            } catch (Throwable e) {
+                failures.add(e);
+            }
+        });
+        consumer.start();
+        consumer.interrupt();
+        consumer.join();
+        
+        assertEquals(1, failures.size());
+        assertTrue(failures.get(0) instanceof InterruptedException);
+    }
+    
+    @Test
+    @DisplayName("put() and take() on a capacity 1 queue should hand over every element in order")
+    void testCapacityOne() throws Exception {
+        BlockingBoundedIntQueue single = new BlockingBoundedIntQueue(1, WaitStrategy.YIELD);
+        single.put(0);
+        assertTrue(single.isFull());
+        assertFalse(single.offer(1));
+        assertFalse(single.offer(1, 1, TimeUnit.MILLISECONDS));
+        assertEquals(0, single.take());
+        
+        int count = 1_000;
+        Thread producer = new Thread(() -> {
+            try {
+                for (int i = 0; i < count; i++) {
+                    single.put(i);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        producer.start();
+        for (int i = 0; i < count; i++) {
+            assertEquals(i, single.take());
+            assertTrue(single.size() <= 1);
+        }
+        producer.join();
+        assertTrue(single.isEmpty());
+    }
+    
+    @Test
+    @DisplayName("put() and take() should hand over every element with every wait strategy")
+    void testProducerConsumerAllStrategies() throws Exception {
+        for (WaitStrategy strategy : WaitStrategy.values()) {
+            BlockingBoundedIntQueue blocking = new BlockingBoundedIntQueue(new SpscBoundedIntQueue(4), strategy);
+            int count = 1_000;
+            Thread producer = new Thread(() -> {
+                try {
+                    for (int i = 0; i < count; i++) {
+                        blocking.put(i);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            producer.start();
+            for (int i = 0; i < count; i++) {
+                assertEquals(i, blocking.take(), strategy.name());
+            }
+            producer.join();
+        }
+    }
+    
+    @Test
+    @DisplayName("Virtual threads should be able to block on put() and take()")
+    void testVirtualThreads() throws Exception {
+        int producers = 50;
+        int perProducer = 200;
+        BlockingBoundedIntQueue shared = new BlockingBoundedIntQueue(8, WaitStrategy.PARK);
+        
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        try {
+            List<Future<Long>> consumers = new ArrayList<>();
+            for (int p = 0; p < producers; p++) {
+                executor.submit(() -> {
+                    for (int i = 1; i <= perProducer; i++) {
+                        shared.put(i);
+                    }
+                    return null;
+                });
+                consumers.add(executor.submit(() -> {
+                    long sum = 0;
+                    for (int i = 0; i < perProducer; i++) {
+                        sum += shared.take();
+                    }
+                    return sum;
+                }));
+            }
+            
+            long total = 0;
+            for (Future<Long> consumer : consumers) {
+                total += consumer.get(30, TimeUnit.SECONDS);
+            }
+            assertEquals((long) producers * perProducer * (perProducer + 1) / 2, total);
+        } finally {
+            executor.shutdownNow();
+        }
+        assertTrue(shared.isEmpty());
+    }
+}
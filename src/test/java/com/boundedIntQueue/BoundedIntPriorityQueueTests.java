@@ -0,0 +1,114 @@
+package com.boundedIntQueue;
+
+import com.vev.boundedIntQueue.BoundedIntPriorityQueue;
+import com.vev.boundedIntQueue.BoundedIntQueue;
+import com.vev.boundedIntQueue.QueueEmptyException;
+import com.vev.boundedIntQueue.QueueFullException;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.PriorityQueue;
+import java.util.Random;
+
+@DisplayName("BoundedIntPriorityQueue Tests")
+public class BoundedIntPriorityQueueTests {
+    
+    private BoundedIntPriorityQueue queue;
+    private final int DEFAULT_CAPACITY = 3;
+    
+    @BeforeEach
+    void setUp() {
+        queue = new BoundedIntPriorityQueue(DEFAULT_CAPACITY);
+    }
+    
+    @Test
+    @DisplayName("Constructor with invalid capacity or arity should throw exception")
+    void testConstructorInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new BoundedIntPriorityQueue(0));
+        assertThrows(IllegalArgumentException.class, () -> new BoundedIntPriorityQueue(-1));
+        assertThrows(IllegalArgumentException.class, () -> new BoundedIntPriorityQueue(10, 3));
+        assertThrows(IllegalArgumentException.class, () -> new BoundedIntPriorityQueue(10, 8));
+        assertEquals(4, new BoundedIntPriorityQueue(10, 4).arity());
+    }
+    
+    @Test
+    @DisplayName("removeFirst() should return the smallest element")
+    void testSmallestFirst() {
+        assertThrows(QueueEmptyException.class, () -> queue.removeFirst());
+        assertThrows(QueueEmptyException.class, () -> queue.peekFirst());
+        
+        queue.addLast(5);
+        queue.addLast(-1);
+        queue.addLast(3);
+        assertTrue(queue.isFull());
+        assertThrows(QueueFullException.class, () -> queue.addLast(0));
+        assertFalse(queue.offer(0));
+        
+        assertEquals(-1, queue.peekFirst());
+        assertEquals(-1, queue.removeFirst());
+        queue.addLast(4);
+        assertEquals(3, queue.removeFirst());
+        assertEquals(4, queue.removeFirst());
+        assertEquals(5, queue.poll(Integer.MIN_VALUE));
+        assertEquals(Integer.MIN_VALUE, queue.poll(Integer.MIN_VALUE));
+    }
+    
+    @Test
+    @DisplayName("Binary and 4-ary heaps should match java.util.PriorityQueue")
+    void testMatchesPriorityQueue() {
+        for (int arity : new int[] {2, 4}) {
+            BoundedIntQueue heap = new BoundedIntPriorityQueue(200, arity);
+            PriorityQueue<Integer> expected = new PriorityQueue<>();
+            Random random = new Random(arity);
+            for (int step = 0; step < 20_000; step++) {
+                if (random.nextInt(3) > 0 && !heap.isFull()) {
+                    int value = random.nextInt(1000) - 500;
+                    heap.addLast(value);
+                    expected.add(value);
+                } else if (!expected.isEmpty()) {
+                    assertEquals((int) expected.poll(), heap.removeFirst());
+                }
+                assertEquals(expected.size(), heap.size());
+            }
+        }
+    }
+    
+    @Test
+    @DisplayName("Bulk insertion should heapify and drainTo should return elements in order")
+    void testBulkHeapify() {
+        for (int arity : new int[] {2, 4}) {
+            BoundedIntPriorityQueue heap = new BoundedIntPriorityQueue(1000, arity);
+            Random random = new Random(7);
+            int[] values = new int[1200];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = random.nextInt();
+            }
+            
+            heap.addLast(values[0]);
+            // lote maior que o heap: reconstrução de Floyd
+            assertEquals(600, heap.addAll(values, 1, 600));
+            // lote menor que o heap: inserções individuais
+            assertEquals(100, heap.addAll(values, 601, 100));
+            // limitado pela capacidade
+            assertEquals(299, heap.addAll(values, 701, 499));
+            assertTrue(heap.isFull());
+            
+            int[] expected = Arrays.copyOf(values, 1000);
+            Arrays.sort(expected);
+            int[] drained = new int[1000];
+            assertEquals(400, heap.drainTo(drained, 0, 400));
+            assertEquals(600, heap.drainTo(drained, 400, 600));
+            assertArrayEquals(expected, drained);
+            assertTrue(heap.isEmpty());
+        }
+        
+        BoundedIntPriorityQueue single = new BoundedIntPriorityQueue(5);
+        single.addAll(new int[] {9}, 0, 1);
+        assertEquals(9, single.removeFirst());
+        assertThrows(IndexOutOfBoundsException.class, () -> single.addAll(new int[2], 1, 2));
+    }
+}
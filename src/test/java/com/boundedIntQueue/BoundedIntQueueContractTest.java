@@ -0,0 +1,122 @@
+package com.boundedIntQueue;
+
+import com.vev.boundedIntQueue.BoundedIntQueue;
+import com.vev.boundedIntQueue.QueueEmptyException;
+import com.vev.boundedIntQueue.QueueFullException;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+// Testes do contrato de BoundedIntQueue que valem para todas as
+// implementações; cada classe de testes de uma fila estende esta e só
+// informa como criá-la. As filas criadas aqui são usadas por uma única thread.
+public abstract class BoundedIntQueueContractTest {
+    
+    private BoundedIntQueue queue;
+    private final int DEFAULT_CAPACITY = 3;
+    
+    // cria uma fila vazia com exatamente capacity elementos de capacidade
+    protected abstract BoundedIntQueue create(int capacity) throws Exception;
+    
+    // libera a fila criada por create; por padrão só a fecha se for AutoCloseable
+    protected void dispose(BoundedIntQueue queue) throws Exception {
+        if (queue instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+    
+    @BeforeEach
+    void setUpContract() throws Exception {
+        queue = create(DEFAULT_CAPACITY);
+    }
+    
+    @AfterEach
+    void tearDownContract() throws Exception {
+        dispose(queue);
+    }
+    
+    @Test
+    @DisplayName("Queue should keep FIFO order when wrapping around the buffer")
+    void testWrapAround() {
+        for (int round = 0; round < 100; round++) {
+            queue.addLast(round);
+            queue.addLast(-round);
+            assertEquals(round, queue.removeFirst());
+            assertEquals(-round, queue.removeFirst());
+        }
+        
+        queue.addLast(1);
+        queue.addLast(2);
+        assertEquals(1, queue.removeFirst());
+        queue.addLast(3);
+        queue.addLast(4);
+        assertTrue(queue.isFull());
+        assertEquals(2, queue.removeFirst());
+        assertEquals(3, queue.removeFirst());
+        assertEquals(4, queue.removeFirst());
+        assertTrue(queue.isEmpty());
+    }
+    
+    @Test
+    @DisplayName("addAll() and drainTo() should move batches across the wrap point")
+    void testBulkWrapAround() {
+        queue.addLast(1);
+        queue.addLast(2);
+        assertEquals(1, queue.removeFirst());
+        
+        // só cabem dois dos quatro elementos
+        assertEquals(2, queue.addAll(new int[] {9, 3, 4, 5, 9}, 1, 4));
+        assertTrue(queue.isFull());
+        assertEquals(0, queue.addAll(new int[] {6}, 0, 1));
+        
+        int[] out = new int[5];
+        assertEquals(3, queue.drainTo(out, 1, 4));
+        assertArrayEquals(new int[] {0, 2, 3, 4, 0}, out);
+        assertTrue(queue.isEmpty());
+        assertEquals(0, queue.drainTo(out, 0, 5));
+    }
+    
+    @Test
+    @DisplayName("addAll() and drainTo() should validate array ranges")
+    void testBulkInvalidRange() {
+        assertThrows(IndexOutOfBoundsException.class, () -> queue.addAll(new int[2], 1, 2));
+        assertThrows(IndexOutOfBoundsException.class, () -> queue.drainTo(new int[2], -1, 1));
+        assertTrue(queue.isEmpty());
+    }
+    
+    @Test
+    @DisplayName("offer() and poll() should report full and empty without throwing")
+    void testOfferPoll() {
+        assertEquals(-1, queue.poll(-1));
+        
+        assertTrue(queue.offer(1));
+        assertTrue(queue.offer(2));
+        assertTrue(queue.offer(3));
+        assertFalse(queue.offer(4));
+        assertEquals(DEFAULT_CAPACITY, queue.size());
+        
+        assertEquals(1, queue.poll(-1));
+        assertEquals(2, queue.poll(-1));
+        assertEquals(3, queue.poll(-1));
+        assertEquals(-1, queue.poll(-1));
+        assertTrue(queue.isEmpty());
+    }
+    
+    @Test
+    @DisplayName("Exceptions thrown by full and empty queues should not capture a stack trace")
+    void testStacklessExceptions() {
+        QueueEmptyException empty = assertThrows(QueueEmptyException.class, () -> queue.removeFirst());
+        assertEquals(0, empty.getStackTrace().length);
+        assertEquals("Queue is empty", empty.getMessage());
+        
+        queue.addLast(1);
+        queue.addLast(2);
+        queue.addLast(3);
+        QueueFullException full = assertThrows(QueueFullException.class, () -> queue.addLast(4));
+        assertEquals(0, full.getStackTrace().length);
+        assertEquals("Queue is full", full.getMessage());
+    }
+}
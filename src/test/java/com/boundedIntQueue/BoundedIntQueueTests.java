@@ -11,7 +11,7 @@ import org.junit.jupiter.api.DisplayName;
 import static org.junit.jupiter.api.Assertions.*;
 
 @DisplayName("BoundedIntQueue Tests")
-public class BoundedIntQueueTests {
+public class BoundedIntQueueTests extends BoundedIntQueueContractTest {
     
     private BoundedIntQueue queue;
     private final int DEFAULT_CAPACITY = 3;
@@ -21,6 +21,11 @@ public class BoundedIntQueueTests {
         queue = new BoundedIntQueueImpl(DEFAULT_CAPACITY);
     }
     
+    @Override
+    protected BoundedIntQueue create(int capacity) {
+        return new BoundedIntQueueImpl(capacity);
+    }
+    
     // Testes do construtor
     @Test
     @DisplayName("Constructor with valid capacity should create queue")
@@ -0,0 +1,215 @@
+package com.boundedIntQueue;
+
+import com.vev.boundedIntQueue.BoundedIntQueue;
+import com.vev.boundedIntQueue.MappedBoundedIntQueue;
+import com.vev.boundedIntQueue.MappedBoundedIntQueue.ForcePolicy;
+import com.vev.boundedIntQueue.QueueEmptyException;
+import com.vev.boundedIntQueue.QueueFullException;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.TimeUnit;
+
+@DisplayName("MappedBoundedIntQueue Tests")
+public class MappedBoundedIntQueueTests extends BoundedIntQueueContractTest {
+    
+    private Path file;
+    private Path contractFile;
+    private MappedBoundedIntQueue queue;
+    private final int DEFAULT_CAPACITY = 3;
+    
+    @BeforeEach
+    void setUp() throws IOException {
+        file = Files.createTempFile("queue", ".dat");
+        queue = new MappedBoundedIntQueue(file, DEFAULT_CAPACITY);
+    }
+    
+    @AfterEach
+    void tearDown() throws IOException {
+        queue.close();
+        Files.deleteIfExists(file);
+    }
+    
+    @Override
+    protected BoundedIntQueue create(int capacity) throws IOException {
+        contractFile = Files.createTempFile("contract", ".dat");
+        return new MappedBoundedIntQueue(contractFile, capacity);
+    }
+    
+    // o arquivo só é apagado depois de a fila fechar o mapeamento
+    @Override
+    protected void dispose(BoundedIntQueue queue) throws Exception {
+        super.dispose(queue);
+        Files.deleteIfExists(contractFile);
+    }
+    
+    @Test
+    @DisplayName("Constructor with invalid arguments should throw exception")
+    void testConstructorInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new MappedBoundedIntQueue(file, 0));
+        assertThrows(IllegalArgumentException.class, () -> new MappedBoundedIntQueue(file, -1));
+        assertThrows(IllegalArgumentException.class, () -> new MappedBoundedIntQueue(file, Integer.MAX_VALUE));
+        assertThrows(IllegalArgumentException.class, () -> ForcePolicy.everyOperations(0));
+        assertThrows(IllegalArgumentException.class, () -> ForcePolicy.onFirstOperationAfter(0, TimeUnit.MILLISECONDS));
+    }
+    
+    @Test
+    @DisplayName("Queue should behave like a bounded FIFO queue")
+    void testFifo() {
+        assertEquals(DEFAULT_CAPACITY, queue.capacity());
+        assertThrows(QueueEmptyException.class, () -> queue.removeFirst());
+        
+        for (int i = 0; i < 100; i++) {
+            queue.addLast(i);
+            queue.addLast(-i);
+            assertEquals(i, queue.removeFirst());
+            assertEquals(-i, queue.poll(0));
+        }
+        queue.addLast(1);
+        queue.addLast(2);
+        queue.addLast(3);
+        assertTrue(queue.isFull());
+        assertThrows(QueueFullException.class, () -> queue.addLast(4));
+        assertFalse(queue.offer(4));
+    }
+    
+    @Test
+    @DisplayName("Queue contents should survive closing and reopening the file")
+    void testReopen() throws IOException {
+        queue.addLast(7);
+        queue.addLast(8);
+        queue.removeFirst();
+        queue.addLast(9);
+        queue.addLast(10);
+        queue.close();
+        
+        queue = new MappedBoundedIntQueue(file, DEFAULT_CAPACITY);
+        assertEquals(3, queue.size());
+        assertEquals(8, queue.removeFirst());
+        assertEquals(9, queue.removeFirst());
+        queue.addLast(11);
+        assertEquals(10, queue.removeFirst());
+        assertEquals(11, queue.removeFirst());
+        assertTrue(queue.isEmpty());
+    }
+    
+    @Test
+    @DisplayName("Queue should survive a crash without close")
+    void testReopenWithoutClose() throws IOException {
+        queue.addLast(1);
+        queue.addLast(2);
+        // sem close: o segundo mapeamento vê o mesmo page cache
+        MappedBoundedIntQueue recovered = new MappedBoundedIntQueue(file, DEFAULT_CAPACITY);
+        try {
+            assertEquals(2, recovered.size());
+            assertEquals(1, recovered.removeFirst());
+        } finally {
+            recovered.close();
+        }
+    }
+    
+    @Test
+    @DisplayName("An element written without publishing the tail should be ignored after recovery")
+    void testInterruptedWrite() throws IOException {
+        queue.addLast(1);
+        queue.close();
+        // simula uma queda depois de gravar o elemento e antes de atualizar o tail
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            ByteBuffer value = ByteBuffer.allocate(4).order(ByteOrder.LITTLE_ENDIAN).putInt(0, 99);
+            channel.write(value, 64 + 4);
+        }
+        
+        queue = new MappedBoundedIntQueue(file, DEFAULT_CAPACITY);
+        assertEquals(1, queue.size());
+        assertEquals(1, queue.removeFirst());
+        assertTrue(queue.isEmpty());
+    }
+    
+    @Test
+    @DisplayName("An element read without publishing the head should be delivered again after recovery")
+    void testInterruptedRemove() throws IOException {
+        queue.addLast(1);
+        queue.addLast(2);
+        assertEquals(1, queue.removeFirst());
+        queue.close();
+        // simula uma queda depois de ler o elemento e antes de atualizar o head
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(8).order(ByteOrder.LITTLE_ENDIAN).putLong(0, 0), 16);
+        }
+        
+        queue = new MappedBoundedIntQueue(file, DEFAULT_CAPACITY);
+        assertEquals(2, queue.size());
+        assertEquals(1, queue.removeFirst());
+        assertEquals(2, queue.removeFirst());
+    }
+    
+    @Test
+    @DisplayName("Invalid or mismatched files should be rejected")
+    void testInvalidFile() throws IOException {
+        queue.close();
+        assertThrows(IOException.class, () -> new MappedBoundedIntQueue(file, 4));
+        
+        Files.write(file, new byte[64 + 3 * 4]);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[] {1, 2, 3, 4}), 0);
+        }
+        assertThrows(IOException.class, () -> new MappedBoundedIntQueue(file, DEFAULT_CAPACITY));
+        
+        Files.write(file, new byte[0]);
+        queue = new MappedBoundedIntQueue(file, DEFAULT_CAPACITY);
+        queue.addLast(1);
+        queue.close();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            // tail menor que head
+            channel.write(ByteBuffer.allocate(8).order(ByteOrder.LITTLE_ENDIAN).putLong(0, 5), 16);
+        }
+        assertThrows(IOException.class, () -> new MappedBoundedIntQueue(file, DEFAULT_CAPACITY));
+    }
+    
+    @Test
+    @DisplayName("Bulk operations and force policies should keep FIFO order")
+    void testBulkWithForcePolicies() throws IOException {
+        ForcePolicy[] policies = {ForcePolicy.never(), ForcePolicy.everyOperations(2), ForcePolicy.onFirstOperationAfter(1, TimeUnit.NANOSECONDS)};
+        for (ForcePolicy policy : policies) {
+            queue.close();
+            Files.write(file, new byte[0]);
+            queue = new MappedBoundedIntQueue(file, 10, policy);
+            
+            int[] src = new int[25];
+            for (int i = 0; i < src.length; i++) {
+                src[i] = i * 5;
+            }
+            int[] dst = new int[25];
+            int added = 0;
+            int removed = 0;
+            while (removed < src.length) {
+                added += queue.addAll(src, added, Math.min(7, src.length - added));
+                removed += queue.drainTo(dst, removed, Math.min(4, dst.length - removed));
+            }
+            assertArrayEquals(src, dst);
+            queue.addLast(42);
+            queue.force();
+        }
+    }
+    
+    @Test
+    @DisplayName("Closed queue should reject element access")
+    void testClose() {
+        queue.close();
+        queue.close();
+        assertThrows(IllegalStateException.class, () -> queue.addLast(1));
+        assertThrows(IllegalStateException.class, () -> queue.poll(-1));
+        assertThrows(IllegalStateException.class, () -> queue.force());
+    }
+}
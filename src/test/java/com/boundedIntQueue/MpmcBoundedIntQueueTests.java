@@ -0,0 +1,248 @@
+package com.boundedIntQueue;
+
+import com.vev.boundedIntQueue.BoundedIntQueue;
+import com.vev.boundedIntQueue.MpmcBoundedIntQueue;
+import com.vev.boundedIntQueue.QueueEmptyException;
+import com.vev.boundedIntQueue.QueueFullException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("MpmcBoundedIntQueue Tests")
+public class MpmcBoundedIntQueueTests extends BoundedIntQueueContractTest {
+    
+    private BoundedIntQueue queue;
+    private final int DEFAULT_CAPACITY = 3;
+    
+    @BeforeEach
+    void setUp() {
+        queue = new MpmcBoundedIntQueue(DEFAULT_CAPACITY);
+    }
+    
+    @Override
+    protected BoundedIntQueue create(int capacity) {
+        return new MpmcBoundedIntQueue(capacity);
+    }
+    
+    @Test
+    @DisplayName("Constructor with invalid capacity should throw exception")
+    void testConstructorInvalidCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new MpmcBoundedIntQueue(0));
+        assertThrows(IllegalArgumentException.class, () -> new MpmcBoundedIntQueue(-1));
+    }
+    
+    @Test
+    @DisplayName("Full and empty queues should throw and keep their state")
+    void testFullAndEmpty() {
+        assertTrue(queue.isEmpty());
+        assertThrows(QueueEmptyException.class, () -> queue.removeFirst());
+        
+        queue.addLast(1);
+        queue.addLast(2);
+        queue.addLast(3);
+        assertTrue(queue.isFull());
+        assertEquals(DEFAULT_CAPACITY, queue.size());
+        assertThrows(QueueFullException.class, () -> queue.addLast(4));
+        assertEquals(DEFAULT_CAPACITY, queue.size());
+        
+        assertEquals(1, queue.removeFirst());
+        assertEquals(2, queue.removeFirst());
+        assertEquals(3, queue.removeFirst());
+        assertTrue(queue.isEmpty());
+    }
+    
+    @Test
+    @DisplayName("Queue with capacity 1 should reject offers when full")
+    void testCapacityOne() {
+        BoundedIntQueue single = new MpmcBoundedIntQueue(1);
+        for (int i = 0; i < 10; i++) {
+            assertTrue(single.offer(i));
+            assertTrue(single.isFull());
+            assertFalse(single.offer(-1));
+            assertThrows(QueueFullException.class, () -> single.addLast(-1));
+            assertEquals(0, single.addAll(new int[] {-1, -1}, 0, 2));
+            assertEquals(1, single.size());
+            assertEquals(i, single.removeFirst());
+            assertEquals(-1, single.poll(-1));
+        }
+        assertEquals(1, single.addAll(new int[] {7, 8}, 0, 2));
+        int[] out = new int[2];
+        assertEquals(1, single.drainTo(out, 0, 2));
+        assertEquals(7, out[0]);
+    }
+    
+    @Test
+    @DisplayName("Concurrent producers and consumers on a capacity 1 queue should neither lose nor duplicate elements")
+    void testCapacityOneConcurrent() throws InterruptedException {
+        int perProducer = 10_000;
+        int total = 2 * perProducer;
+        BoundedIntQueue single = new MpmcBoundedIntQueue(1);
+        AtomicIntegerArray seen = new AtomicIntegerArray(total);
+        AtomicInteger consumed = new AtomicInteger();
+        List<Thread> threads = new ArrayList<>();
+        
+        for (int p = 0; p < 2; p++) {
+            int first = p * perProducer;
+            threads.add(new Thread(() -> {
+                for (int value = first; value < first + perProducer; value++) {
+                    while (!single.offer(value)) {
+                        Thread.yield();
+                    }
+                }
+            }));
+        }
+        for (int c = 0; c < 2; c++) {
+            threads.add(new Thread(() -> {
+                while (consumed.get() < total) {
+                    int value = single.poll(-1);
+                    if (value < 0) {
+                        Thread.yield();
+                    } else {
+                        seen.incrementAndGet(value);
+                        consumed.incrementAndGet();
+                    }
+                }
+            }));
+        }
+        
+        threads.forEach(Thread::start);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        
+        assertEquals(total, consumed.get());
+        for (int i = 0; i < total; i++) {
+            assertEquals(1, seen.get(i), "element " + i);
+        }
+        assertTrue(single.isEmpty());
+    }
+    
+    @Test
+    @DisplayName("Concurrent producers and consumers should neither lose nor duplicate elements")
+    void testStressNoLossNoDuplication() throws InterruptedException {
+        int producers = 4;
+        int consumers = 4;
+        int perProducer = 50_000;
+        int total = producers * perProducer;
+        BoundedIntQueue shared = new MpmcBoundedIntQueue(16);
+        AtomicIntegerArray seen = new AtomicIntegerArray(total);
+        AtomicInteger consumed = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        
+        for (int p = 0; p < producers; p++) {
+            int first = p * perProducer;
+            threads.add(new Thread(() -> {
+                await(start);
+                for (int value = first; value < first + perProducer; value++) {
+                    while (true) {
+                        try {
+                            shared.addLast(value);
+                            break;
+                        } catch (QueueFullException e) {
+                            Thread.yield();
+                        }
+                    }
+                }
+            }));
+        }
+        for (int c = 0; c < consumers; c++) {
+            threads.add(new Thread(() -> {
+                await(start);
+                while (consumed.get() < total) {
+                    try {
+                        seen.incrementAndGet(shared.removeFirst());
+                        consumed.incrementAndGet();
+                    } catch (QueueEmptyException e) {
+                        Thread.yield();
+                    }
+                }
+            }));
+        }
+        
+        threads.forEach(Thread::start);
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        
+        assertEquals(total, consumed.get());
+        for (int i = 0; i < total; i++) {
+            assertEquals(1, seen.get(i), "element " + i);
+        }
+        assertTrue(shared.isEmpty());
+    }
+    
+    @Test
+    @DisplayName("Concurrent batches should neither lose nor duplicate elements")
+    void testStressBatches() throws InterruptedException {
+        int producers = 3;
+        int consumers = 3;
+        int perProducer = 60_000;
+        int batch = 7;
+        int total = producers * perProducer;
+        BoundedIntQueue shared = new MpmcBoundedIntQueue(20);
+        AtomicIntegerArray seen = new AtomicIntegerArray(total);
+        AtomicInteger consumed = new AtomicInteger();
+        List<Thread> threads = new ArrayList<>();
+        
+        for (int p = 0; p < producers; p++) {
+            int first = p * perProducer;
+            threads.add(new Thread(() -> {
+                int[] values = new int[perProducer];
+                for (int i = 0; i < perProducer; i++) {
+                    values[i] = first + i;
+                }
+                int sent = 0;
+                while (sent < perProducer) {
+                    int added = shared.addAll(values, sent, Math.min(batch, perProducer - sent));
+                    if (added == 0) {
+                        Thread.yield();
+                    }
+                    sent += added;
+                }
+            }));
+        }
+        for (int c = 0; c < consumers; c++) {
+            threads.add(new Thread(() -> {
+                int[] buffer = new int[batch];
+                while (consumed.get() < total) {
+                    int removed = shared.drainTo(buffer, 0, batch);
+                    if (removed == 0) {
+                        Thread.yield();
+                    }
+                    for (int i = 0; i < removed; i++) {
+                        seen.incrementAndGet(buffer[i]);
+                    }
+                    consumed.addAndGet(removed);
+                }
+            }));
+        }
+        
+        threads.forEach(Thread::start);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        
+        assertEquals(total, consumed.get());
+        for (int i = 0; i < total; i++) {
+            assertEquals(1, seen.get(i), "element " + i);
+        }
+    }
+    
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.boundedIntQueue;
+
+import com.vev.boundedIntQueue.BoundedIntQueue;
+import com.vev.boundedIntQueue.OffHeapBoundedIntQueue;
+import com.vev.boundedIntQueue.QueueEmptyException;
+import com.vev.boundedIntQueue.QueueFullException;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("OffHeapBoundedIntQueue Tests")
+public class OffHeapBoundedIntQueueTests extends BoundedIntQueueContractTest {
+    
+    private OffHeapBoundedIntQueue queue;
+    private final int DEFAULT_CAPACITY = 3;
+    
+    @BeforeEach
+    void setUp() {
+        queue = new OffHeapBoundedIntQueue(DEFAULT_CAPACITY);
+    }
+    
+    @AfterEach
+    void tearDown() {
+        queue.close();
+    }
+    
+    @Override
+    protected BoundedIntQueue create(int capacity) {
+        return new OffHeapBoundedIntQueue(capacity);
+    }
+    
+    @Test
+    @DisplayName("Constructor with invalid capacity or chunk capacity should throw exception")
+    void testConstructorInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new OffHeapBoundedIntQueue(0));
+        assertThrows(IllegalArgumentException.class, () -> new OffHeapBoundedIntQueue(-1));
+        assertThrows(IllegalArgumentException.class, () -> new OffHeapBoundedIntQueue(10, 3));
+        assertThrows(IllegalArgumentException.class, () -> new OffHeapBoundedIntQueue(10, 0));
+        assertThrows(IllegalArgumentException.class, () -> new OffHeapBoundedIntQueue(10, 1 << 29));
+    }
+    
+    @Test
+    @DisplayName("Queue should behave like a bounded FIFO queue")
+    void testFifo() {
+        assertEquals(DEFAULT_CAPACITY, queue.capacity());
+        assertTrue(queue.isEmpty());
+        assertThrows(QueueEmptyException.class, () -> queue.removeFirst());
+        
+        queue.addLast(1);
+        queue.addLast(-2);
+        queue.addLast(Integer.MAX_VALUE);
+        assertTrue(queue.isFull());
+        assertThrows(QueueFullException.class, () -> queue.addLast(4));
+        assertFalse(queue.offer(4));
+        
+        assertEquals(1, queue.removeFirst());
+        assertEquals(-2, queue.removeFirst());
+        assertEquals(Integer.MAX_VALUE, queue.poll(-1));
+        assertEquals(-1, queue.poll(-1));
+        assertEquals(0, queue.size());
+    }
+    
+    @Test
+    @DisplayName("Queue should keep FIFO order across chunks and when wrapping around")
+    void testChunksWrapAround() {
+        try (OffHeapBoundedIntQueue chunked = new OffHeapBoundedIntQueue(10, 4)) {
+            int next = 0;
+            int expected = 0;
+            for (int round = 0; round < 50; round++) {
+                while (chunked.offer(next)) {
+                    next++;
+                }
+                for (int i = 0; i < 7; i++) {
+                    assertEquals(expected++, chunked.removeFirst());
+                }
+            }
+            assertEquals(3, chunked.size());
+        }
+    }
+    
+    @Test
+    @DisplayName("Bulk operations should copy across chunk and wrap-around boundaries")
+    void testBulkAcrossChunks() {
+        try (OffHeapBoundedIntQueue chunked = new OffHeapBoundedIntQueue(10, 4)) {
+            int[] src = new int[25];
+            for (int i = 0; i < src.length; i++) {
+                src[i] = i * 3;
+            }
+            int[] dst = new int[25];
+            int added = 0;
+            int removed = 0;
+            while (removed < src.length) {
+                added += chunked.addAll(src, added, Math.min(7, src.length - added));
+                removed += chunked.drainTo(dst, removed, Math.min(5, dst.length - removed));
+            }
+            assertArrayEquals(src, dst);
+            assertTrue(chunked.isEmpty());
+            assertThrows(IndexOutOfBoundsException.class, () -> chunked.addAll(src, 20, 10));
+        }
+    }
+    
+    @Test
+    @DisplayName("Closed queue should reject element access and close should be idempotent")
+    void testClose() {
+        queue.addLast(1);
+        queue.close();
+        queue.close();
+        
+        assertThrows(IllegalStateException.class, () -> queue.removeFirst());
+        assertThrows(IllegalStateException.class, () -> queue.addLast(2));
+        assertThrows(IllegalStateException.class, () -> queue.drainTo(new int[1], 0, 1));
+        assertEquals(DEFAULT_CAPACITY, queue.capacity());
+        
+        OffHeapBoundedIntQueue empty = new OffHeapBoundedIntQueue(1);
+        empty.close();
+        assertThrows(IllegalStateException.class, () -> empty.poll(-1));
+        assertThrows(IllegalStateException.class, () -> empty.drainTo(new int[1], 0, 1));
+    }
+}
@@ -0,0 +1,136 @@
+package com.boundedIntQueue;
+
+import com.vev.boundedIntQueue.BoundedIntQueue;
+import com.vev.boundedIntQueue.IntChunkPool;
+import com.vev.boundedIntQueue.QueueEmptyException;
+import com.vev.boundedIntQueue.QueueFullException;
+import com.vev.boundedIntQueue.SegmentedBoundedIntQueue;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayDeque;
+import java.util.Random;
+
+@DisplayName("SegmentedBoundedIntQueue Tests")
+public class SegmentedBoundedIntQueueTests extends BoundedIntQueueContractTest {
+    
+    private IntChunkPool pool;
+    private SegmentedBoundedIntQueue queue;
+    private final int DEFAULT_CAPACITY = 3;
+    
+    @BeforeEach
+    void setUp() {
+        pool = new IntChunkPool(4, 8);
+        queue = new SegmentedBoundedIntQueue(DEFAULT_CAPACITY, pool);
+    }
+    
+    @Override
+    protected BoundedIntQueue create(int capacity) {
+        return new SegmentedBoundedIntQueue(capacity);
+    }
+    
+    @Test
+    @DisplayName("Constructor with invalid arguments should throw exception")
+    void testConstructorInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new SegmentedBoundedIntQueue(0));
+        assertThrows(IllegalArgumentException.class, () -> new SegmentedBoundedIntQueue(-1));
+        assertThrows(IllegalArgumentException.class, () -> new IntChunkPool(0, 1));
+        assertThrows(IllegalArgumentException.class, () -> new IntChunkPool(1, -1));
+    }
+    
+    @Test
+    @DisplayName("Capacity should bound the number of elements")
+    void testCapacity() {
+        assertEquals(DEFAULT_CAPACITY, queue.capacity());
+        assertThrows(QueueEmptyException.class, () -> queue.removeFirst());
+        
+        queue.addLast(1);
+        queue.addLast(2);
+        queue.addLast(3);
+        assertTrue(queue.isFull());
+        assertThrows(QueueFullException.class, () -> queue.addLast(4));
+        assertFalse(queue.offer(4));
+        assertEquals(1, queue.removeFirst());
+        assertEquals(Integer.MAX_VALUE, new SegmentedBoundedIntQueue().capacity());
+    }
+    
+    @Test
+    @DisplayName("Queue should grow and shrink in chunks recycled through the pool")
+    void testGrowAndShrink() {
+        BoundedIntQueue large = new SegmentedBoundedIntQueue(1000, pool);
+        SegmentedBoundedIntQueue segmented = (SegmentedBoundedIntQueue) large;
+        assertEquals(0, segmented.chunkCount());
+        
+        for (int i = 0; i < 100; i++) {
+            large.addLast(i);
+        }
+        assertEquals(25, segmented.chunkCount());
+        for (int i = 0; i < 99; i++) {
+            assertEquals(i, large.removeFirst());
+        }
+        assertEquals(1, segmented.chunkCount());
+        // o pool guarda no máximo 8 blocos livres
+        assertEquals(8, pool.pooledChunks());
+        
+        assertEquals(99, large.removeFirst());
+        assertEquals(1, segmented.chunkCount());
+        assertEquals(8, pool.pooledChunks());
+        segmented.trim();
+        assertEquals(0, segmented.chunkCount());
+        
+        // blocos devolvidos são reaproveitados por outra fila
+        SegmentedBoundedIntQueue other = new SegmentedBoundedIntQueue(100, pool);
+        other.addLast(1);
+        assertEquals(7, pool.pooledChunks());
+        for (int i = 0; i < 8; i++) {
+            other.addLast(i);
+        }
+        assertEquals(5, pool.pooledChunks());
+    }
+    
+    @Test
+    @DisplayName("Queue should match ArrayDeque under random single and bulk operations")
+    void testRandomOperations() {
+        SegmentedBoundedIntQueue random = new SegmentedBoundedIntQueue(50, pool);
+        ArrayDeque<Integer> expected = new ArrayDeque<>();
+        Random rnd = new Random(42);
+        int next = 0;
+        for (int step = 0; step < 20_000; step++) {
+            switch (rnd.nextInt(4)) {
+                case 0 -> {
+                    boolean added = random.offer(next);
+                    assertEquals(expected.size() < 50, added);
+                    if (added) {
+                        expected.addLast(next);
+                    }
+                    next++;
+                }
+                case 1 -> assertEquals(expected.isEmpty() ? -1 : expected.removeFirst(), random.poll(-1));
+                case 2 -> {
+                    int[] src = new int[rnd.nextInt(12)];
+                    for (int i = 0; i < src.length; i++) {
+                        src[i] = next++;
+                    }
+                    int added = random.addAll(src, 0, src.length);
+                    assertEquals(Math.min(src.length, 50 - expected.size()), added);
+                    for (int i = 0; i < added; i++) {
+                        expected.addLast(src[i]);
+                    }
+                }
+                default -> {
+                    int[] dst = new int[rnd.nextInt(12)];
+                    int removed = random.drainTo(dst, 0, dst.length);
+                    assertEquals(Math.min(dst.length, expected.size()), removed);
+                    for (int i = 0; i < removed; i++) {
+                        assertEquals((int) expected.removeFirst(), dst[i]);
+                    }
+                }
+            }
+            assertEquals(expected.size(), random.size());
+            assertTrue(random.chunkCount() <= 50 / 4 + 2);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.boundedIntQueue;
+
+import com.vev.boundedIntQueue.BoundedIntQueue;
+import com.vev.boundedIntQueue.QueueEmptyException;
+import com.vev.boundedIntQueue.QueueFullException;
+import com.vev.boundedIntQueue.SpscBoundedIntQueue;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("SpscBoundedIntQueue Tests")
+public class SpscBoundedIntQueueTests extends BoundedIntQueueContractTest {
+    
+    private BoundedIntQueue queue;
+    private final int DEFAULT_CAPACITY = 3;
+    
+    @BeforeEach
+    void setUp() {
+        queue = new SpscBoundedIntQueue(DEFAULT_CAPACITY);
+    }
+    
+    @Override
+    protected BoundedIntQueue create(int capacity) {
+        return new SpscBoundedIntQueue(capacity);
+    }
+    
+    @Test
+    @DisplayName("Constructor with invalid capacity should throw exception")
+    void testConstructorInvalidCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new SpscBoundedIntQueue(0));
+        assertThrows(IllegalArgumentException.class, () -> new SpscBoundedIntQueue(-1));
+    }
+    
+    @Test
+    @DisplayName("Capacity should not be rounded up")
+    void testCapacityNotRounded() {
+        assertEquals(DEFAULT_CAPACITY, queue.capacity());
+        
+        queue.addLast(1);
+        queue.addLast(2);
+        queue.addLast(3);
+        assertTrue(queue.isFull());
+        assertEquals(3, queue.size());
+        assertThrows(QueueFullException.class, () -> queue.addLast(4));
+    }
+    
+    @Test
+    @DisplayName("removeFirst() on empty queue should throw QueueEmptyException")
+    void testRemoveFirstFromEmpty() {
+        assertTrue(queue.isEmpty());
+        assertThrows(QueueEmptyException.class, () -> queue.removeFirst());
+        assertEquals(0, queue.size());
+    }
+    
+    @Test
+    @DisplayName("One producer and one consumer should transfer every element in order")
+    void testProducerConsumer() throws InterruptedException {
+        BoundedIntQueue spsc = new SpscBoundedIntQueue(64);
+        int count = 200_000;
+        
+        // com um único produtor, !isFull() garante que o próximo addLast cabe
+        Thread producer = new Thread(() -> {
+            for (int i = 0; i < count; i++) {
+                while (spsc.isFull()) {
+                    Thread.yield();
+                }
+                spsc.addLast(i);
+            }
+        });
+        producer.start();
+        
+        for (int expected = 0; expected < count; expected++) {
+            while (spsc.isEmpty()) {
+                Thread.yield();
+            }
+            assertEquals(expected, spsc.removeFirst());
+        }
+        producer.join();
+        assertTrue(spsc.isEmpty());
+    }
+}
@@ -0,0 +1,192 @@
+package com.boundedIntQueue;
+
+import com.vev.boundedIntQueue.BoundedIntQueue;
+import com.vev.boundedIntQueue.QueueEmptyException;
+import com.vev.boundedIntQueue.QueueFullException;
+import com.vev.boundedIntQueue.StripedBoundedIntQueue;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+@DisplayName("StripedBoundedIntQueue Tests")
+public class StripedBoundedIntQueueTests extends BoundedIntQueueContractTest {
+    
+    private StripedBoundedIntQueue queue;
+    private final int DEFAULT_CAPACITY = 10;
+    
+    @BeforeEach
+    void setUp() {
+        queue = new StripedBoundedIntQueue(DEFAULT_CAPACITY, 4);
+    }
+    
+    // com uma só faixa a ordem é FIFO, como o contrato exige
+    @Override
+    protected BoundedIntQueue create(int capacity) {
+        return new StripedBoundedIntQueue(capacity, 1);
+    }
+    
+    @Test
+    @DisplayName("Constructor with invalid capacity or stripe count should throw exception")
+    void testConstructorInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new StripedBoundedIntQueue(0));
+        assertThrows(IllegalArgumentException.class, () -> new StripedBoundedIntQueue(-1));
+        assertThrows(IllegalArgumentException.class, () -> new StripedBoundedIntQueue(10, 0));
+        assertEquals(1, new StripedBoundedIntQueue(1, 8).stripeCount());
+        assertEquals(1, new StripedBoundedIntQueue(2, 8).stripeCount());
+        assertEquals(2, new StripedBoundedIntQueue(5, 8).stripeCount());
+    }
+    
+    @Test
+    @DisplayName("Queue should hold exactly its capacity across all stripes")
+    void testCapacityAcrossStripes() {
+        assertEquals(DEFAULT_CAPACITY, queue.capacity());
+        assertEquals(4, queue.stripeCount());
+        assertTrue(queue.isEmpty());
+        assertThrows(QueueEmptyException.class, () -> queue.removeFirst());
+        
+        // a faixa da thread enche antes das outras; offer passa para as seguintes
+        for (int i = 0; i < DEFAULT_CAPACITY; i++) {
+            queue.addLast(i);
+        }
+        assertTrue(queue.isFull());
+        assertEquals(DEFAULT_CAPACITY, queue.size());
+        assertThrows(QueueFullException.class, () -> queue.addLast(10));
+        assertFalse(queue.offer(10));
+        
+        int[] removed = new int[DEFAULT_CAPACITY];
+        for (int i = 0; i < DEFAULT_CAPACITY; i++) {
+            removed[i] = queue.removeFirst();
+        }
+        Arrays.sort(removed);
+        assertArrayEquals(new int[] {0, 1, 2, 3, 4, 5, 6, 7, 8, 9}, removed);
+        assertEquals(-1, queue.poll(-1));
+        assertTrue(queue.isEmpty());
+    }
+    
+    @Test
+    @DisplayName("Small queues with many requested stripes should neither overfill nor lose elements")
+    void testSmallCapacityManyStripes() {
+        for (int capacity = 1; capacity <= 9; capacity++) {
+            StripedBoundedIntQueue small = new StripedBoundedIntQueue(capacity, 4);
+            int accepted = 0;
+            for (int i = 0; i < 2 * capacity; i++) {
+                if (small.offer(i)) {
+                    accepted++;
+                }
+            }
+            assertEquals(capacity, accepted);
+            assertEquals(capacity, small.size());
+            assertTrue(small.isFull());
+            
+            int[] removed = new int[capacity];
+            for (int i = 0; i < capacity; i++) {
+                removed[i] = small.removeFirst();
+            }
+            Arrays.sort(removed);
+            for (int i = 0; i < capacity; i++) {
+                assertEquals(i, removed[i]);
+            }
+            assertEquals(-1, small.poll(-1));
+        }
+    }
+    
+    @Test
+    @DisplayName("Queue should keep FIFO order within the thread's stripe")
+    void testFifoWithinStripe() {
+        // capacidade 12 em 4 faixas: 3 por faixa
+        StripedBoundedIntQueue striped = new StripedBoundedIntQueue(12, 4);
+        for (int round = 0; round < 100; round++) {
+            striped.addLast(round);
+            striped.addLast(-round);
+            assertEquals(round, striped.removeFirst());
+            assertEquals(-round, striped.removeFirst());
+        }
+    }
+    
+    @Test
+    @DisplayName("Bulk operations should spill over to and steal from other stripes")
+    void testBulkAcrossStripes() {
+        int[] src = new int[15];
+        for (int i = 0; i < src.length; i++) {
+            src[i] = i;
+        }
+        assertEquals(DEFAULT_CAPACITY, queue.addAll(src, 0, src.length));
+        assertTrue(queue.isFull());
+        
+        int[] dst = new int[15];
+        assertEquals(DEFAULT_CAPACITY, queue.drainTo(dst, 0, dst.length));
+        Arrays.sort(dst, 0, DEFAULT_CAPACITY);
+        assertArrayEquals(Arrays.copyOf(src, DEFAULT_CAPACITY), Arrays.copyOf(dst, DEFAULT_CAPACITY));
+        assertTrue(queue.isEmpty());
+        assertThrows(IndexOutOfBoundsException.class, () -> queue.drainTo(dst, 10, 10));
+    }
+    
+    @Test
+    @DisplayName("Concurrent producers and stealing consumers should neither lose nor duplicate elements")
+    void testStressNoLossNoDuplication() throws InterruptedException {
+        int producers = 4;
+        int consumers = 2;
+        int perProducer = 20_000;
+        int total = producers * perProducer;
+        BoundedIntQueue shared = new StripedBoundedIntQueue(64, 4);
+        AtomicIntegerArray seen = new AtomicIntegerArray(total);
+        AtomicInteger consumed = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        
+        for (int p = 0; p < producers; p++) {
+            int first = p * perProducer;
+            threads.add(new Thread(() -> {
+                await(start);
+                for (int value = first; value < first + perProducer; value++) {
+                    while (!shared.offer(value)) {
+                        Thread.yield();
+                    }
+                }
+            }));
+        }
+        for (int c = 0; c < consumers; c++) {
+            threads.add(new Thread(() -> {
+                await(start);
+                while (consumed.get() < total) {
+                    int value = shared.poll(-1);
+                    if (value < 0) {
+                        Thread.yield();
+                    } else {
+                        seen.incrementAndGet(value);
+                        consumed.incrementAndGet();
+                    }
+                }
+            }));
+        }
+        
+        threads.forEach(Thread::start);
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        
+        assertEquals(total, consumed.get());
+        for (int i = 0; i < total; i++) {
+            assertEquals(1, seen.get(i), "element " + i);
+        }
+        assertTrue(shared.isEmpty());
+    }
+    
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.calculator;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+import com.vev.calculator.BulkCalculator;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+public class BulkCalculatorTests {
+    
+    private Path file;
+    
+    @BeforeEach
+    void setUp() throws IOException {
+        file = Files.createTempFile("expressions", ".txt");
+    }
+    
+    @AfterEach
+    void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+    
+    @Test
+    @DisplayName("Teste básico - uma expressão por linha")
+    void testLines() throws IOException {
+        write("54+22\n1+2+3\r\n42\n5+\n+\n2147483647");
+        int[] results = new int[8];
+        
+        int lines = new BulkCalculator().evaluateLines(file, results, 1);
+        
+        assertEquals(6, lines);
+        assertArrayEquals(new int[] {0, 76, 6, 42, 5, 0, 2147483647, 0}, results);
+    }
+    
+    @Test
+    @DisplayName("Teste de janelas pequenas - linhas atravessando o limite da janela")
+    void testSmallWindows() throws IOException {
+        StringBuilder content = new StringBuilder();
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            content.append(i).append('+').append(i * 7).append('\n');
+            expected.add(i * 8);
+        }
+        write(content.toString());
+        
+        List<Integer> results = new ArrayList<>();
+        long lines = new BulkCalculator(16).evaluateLines(file, results::add);
+        
+        assertEquals(500, lines);
+        assertEquals(expected, results);
+    }
+    
+    @Test
+    @DisplayName("Teste de canal de saída - ints de 4 bytes big-endian")
+    void testOutputChannel() throws IOException {
+        write("1+1\n100+200\n-5\n");
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        
+        long lines = new BulkCalculator().evaluateLines(file, Channels.newChannel(bytes));
+        
+        assertEquals(3, lines);
+        ByteBuffer output = ByteBuffer.wrap(bytes.toByteArray());
+        assertEquals(12, output.remaining());
+        assertEquals(2, output.getInt());
+        assertEquals(300, output.getInt());
+        assertEquals(-5, output.getInt());
+    }
+    
+    @Test
+    @DisplayName("Teste de arquivo vazio")
+    void testEmptyFile() throws IOException {
+        assertEquals(0, new BulkCalculator().evaluateLines(file, value -> fail("no lines expected")));
+    }
+    
+    @Test
+    @DisplayName("Teste de valores inválidos - informa a linha com erro")
+    void testInvalidLine() throws IOException {
+        write("1+2\n3+x\n4\n");
+        List<Integer> results = new ArrayList<>();
+        
+        NumberFormatException error = assertThrows(NumberFormatException.class,
+            () -> new BulkCalculator().evaluateLines(file, results::add));
+        
+        assertTrue(error.getMessage().startsWith("Line 2:"));
+        assertEquals(List.of(3), results);
+        
+        write("1\n\n2\n");
+        assertThrows(NumberFormatException.class, () -> new BulkCalculator().evaluateLines(file, value -> { }));
+    }
+    
+    @Test
+    @DisplayName("Teste de linha maior que a janela")
+    void testLineLongerThanWindow() throws IOException {
+        write("1+2+3+4+5+6+7+8+9\n1\n");
+        assertThrows(IOException.class, () -> new BulkCalculator(8).evaluateLines(file, value -> { }));
+    }
+    
+    private void write(String content) throws IOException {
+        Files.write(file, content.getBytes(StandardCharsets.US_ASCII));
+    }
+}
@@ -0,0 +1,96 @@
+package com.calculator;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+import com.vev.calculator.CachingCalculator;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class CachingCalculatorTests {
+    
+    private CachingCalculator calculator;
+    
+    @BeforeEach
+    void setUp() {
+        calculator = new CachingCalculator(3);
+    }
+    
+    @Test
+    @DisplayName("Teste básico - resultados iguais aos de Calculator e contadores de acerto")
+    void testHitsAndMisses() {
+        assertEquals(76, calculator.evaluate("54+22"));
+        assertEquals(76, calculator.evaluate("54+22"));
+        assertEquals(219, calculator.evaluate("54+22+32+4+105+2"));
+        assertEquals(76, calculator.evaluate("54+22"));
+        
+        assertEquals(2, calculator.hitCount());
+        assertEquals(2, calculator.missCount());
+        assertEquals(0, calculator.evictionCount());
+        assertEquals(2, calculator.size());
+    }
+    
+    @Test
+    @DisplayName("Teste de limite de tamanho - remove a entrada não referenciada")
+    void testClockEviction() {
+        calculator.evaluate("1+1");
+        calculator.evaluate("2+2");
+        calculator.evaluate("3+3");
+        // "1+1" ganha uma segunda chance; "2+2" é a primeira não referenciada
+        calculator.evaluate("1+1");
+        calculator.evaluate("4+4");
+        
+        assertEquals(3, calculator.size());
+        assertEquals(1, calculator.evictionCount());
+        
+        long misses = calculator.missCount();
+        assertEquals(2, calculator.evaluate("1+1"));
+        assertEquals(misses, calculator.missCount());
+        assertEquals(4, calculator.evaluate("2+2"));
+        assertEquals(misses + 1, calculator.missCount());
+    }
+    
+    @Test
+    @DisplayName("Teste de valores inválidos - exceções não são guardadas")
+    void testInvalidExpressionsNotCached() {
+        assertThrows(NumberFormatException.class, () -> calculator.evaluate("5 + 5"));
+        assertThrows(NumberFormatException.class, () -> calculator.evaluate("5 + 5"));
+        assertThrows(NullPointerException.class, () -> calculator.evaluate(null));
+        assertEquals(0, calculator.size());
+        assertThrows(IllegalArgumentException.class, () -> new CachingCalculator(0));
+    }
+    
+    @Test
+    @DisplayName("Teste de concorrência - várias threads nunca passam do tamanho máximo")
+    void testConcurrentAccess() throws InterruptedException {
+        CachingCalculator shared = new CachingCalculator(50);
+        List<Thread> threads = new ArrayList<>();
+        List<Throwable> failures = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            int seed = t;
+            threads.add(new Thread(() -> {
+                try {
+                    for (int i = 0; i < 20_000; i++) {
+                        int n = (i * 31 + seed) % 200;
+                        assertEquals(n + 1, shared.evaluate(n + "+1"));
+                        assertTrue(shared.size() <= 50, "size " + shared.size());
+                    }
+                } catch (Throwable e) {
+                    synchronized (failures) {
+                        failures.add(e);
+                    }
+                }
+            }));
+        }
+        threads.forEach(Thread::start);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        
+        assertTrue(failures.isEmpty(), failures.toString());
+        assertTrue(shared.size() <= 50);
+        assertEquals(80_000, shared.hitCount() + shared.missCount());
+    }
+}
@@ -6,6 +6,11 @@ import org.junit.jupiter.api.DisplayName;
 import static org.junit.jupiter.api.Assertions.*;
 import com.vev.calculator.Calculator;
 
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
 public class CalculatorTests {
     
     private Calculator calculator;
@@ -280,4 +285,184 @@ public class CalculatorTests {
         assertThrows(NumberFormatException.class, () -> calculator.evaluate("5\n+\n10"));
         assertThrows(NumberFormatException.class, () -> calculator.evaluate("5\r\n+10"));
     }
+    
+    @Test
+    @DisplayName("Teste de equivalência - mesmo resultado que split(\"\\\\+\") com Integer.valueOf")
+    void testMatchesSplitImplementation() {
+        String[] expressions = {
+            "1+2+3", "-5", "5+-3", "-2147483648", "2147483647+1", "0010+5",
+            "5++", "5++3", "+5", "-", "--5", "2147483648", "-2147483649", "1+٣"
+        };
+        for (String expression : expressions) {
+            Integer expected;
+            try {
+                int sum = 0;
+                for (String summand : expression.split("\\+")) {
+                    sum += Integer.valueOf(summand);
+                }
+                expected = sum;
+            } catch (NumberFormatException e) {
+                expected = null;
+            }
+            
+            if (expected == null) {
+                assertThrows(NumberFormatException.class, () -> calculator.evaluate(expression), expression);
+            } else {
+                assertEquals(expected.intValue(), calculator.evaluate(expression), expression);
+            }
+        }
+    }
+    
+    @Test
+    @DisplayName("Teste de trecho de CharSequence - avalia sem copiar")
+    void testCharSequenceRange() {
+        String line = "INFO expr=54+22+32+4+105+2 ok";
+        int start = line.indexOf('=') + 1;
+        int end = line.indexOf(' ', start);
+        assertEquals(219, calculator.evaluate(line, start, end));
+        
+        StringBuilder builder = new StringBuilder("[10+20+]");
+        assertEquals(30, calculator.evaluate(builder, 1, 7));
+        assertEquals(0, calculator.evaluate(builder, 6, 7));
+        
+        assertThrows(NumberFormatException.class, () -> calculator.evaluate(line, 0, end));
+        assertThrows(NumberFormatException.class, () -> calculator.evaluate(line, start, start));
+        assertThrows(IndexOutOfBoundsException.class, () -> calculator.evaluate(line, 5, line.length() + 1));
+    }
+    
+    @Test
+    @DisplayName("Teste de ByteBuffer - avalia bytes ASCII entre position e limit")
+    void testByteBuffer() {
+        byte[] bytes = "xx54+22+32+4+105+2yy".getBytes(StandardCharsets.US_ASCII);
+        ByteBuffer heap = ByteBuffer.wrap(bytes, 2, bytes.length - 4);
+        assertEquals(219, calculator.evaluateAscii(heap));
+        assertEquals(2, heap.position());
+        
+        ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+        direct.put(bytes).flip().position(2).limit(bytes.length - 2);
+        assertEquals(219, calculator.evaluateAscii(direct));
+        assertEquals(2, direct.position());
+    }
+    
+    @Test
+    @DisplayName("Teste de ByteBuffer - mesmos resultados e exceções que evaluate(String)")
+    void testByteBufferMatchesString() {
+        String[] expressions = {
+            "1+2+3", "-5", "5+-3", "-2147483648", "2147483647+1", "0010+5", "5+", "+++",
+            "", "5++3", "+5", "-", "--5", "5 + 5", "2147483648", "-2147483649", "1.5", "5+a"
+        };
+        for (String expression : expressions) {
+            ByteBuffer buffer = ByteBuffer.wrap(expression.getBytes(StandardCharsets.US_ASCII));
+            Integer expected;
+            try {
+                expected = calculator.evaluate(expression);
+            } catch (NumberFormatException e) {
+                expected = null;
+            }
+            
+            if (expected == null) {
+                assertThrows(NumberFormatException.class, () -> calculator.evaluateAscii(buffer), expression);
+            } else {
+                assertEquals(expected.intValue(), calculator.evaluateAscii(buffer), expression);
+            }
+        }
+    }
+    
+    @Test
+    @DisplayName("Teste do modo paralelo - mesmo resultado que o caminho sequencial")
+    void testParallelMatchesSequential() {
+        Random random = new Random(7);
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < 200_000; i++) {
+            if (i > 0) {
+                builder.append('+');
+            }
+            builder.append(random.nextInt(Integer.MAX_VALUE));
+        }
+        builder.append("++");
+        String expression = builder.toString();
+        
+        Calculator sequential = new Calculator(Integer.MAX_VALUE);
+        Calculator parallel = new Calculator(1024);
+        
+        assertEquals(sequential.evaluate(expression), parallel.evaluate(expression));
+        int start = expression.indexOf('+') + 1;
+        assertEquals(sequential.evaluate(builder, start, builder.length()),
+            parallel.evaluate(builder, start, builder.length()));
+    }
+    
+    @Test
+    @DisplayName("Teste do modo paralelo - parcelas inválidas ainda geram exceção")
+    void testParallelInvalidTerms() {
+        Calculator parallel = new Calculator(16);
+        String terms = "1+".repeat(100_000);
+        
+        assertThrows(NumberFormatException.class, () -> parallel.evaluate(terms + "+" + terms + "1"));
+        assertThrows(NumberFormatException.class, () -> parallel.evaluate(terms + "x+" + terms + "1"));
+        assertEquals(200_000, parallel.evaluate(terms + terms));
+        assertThrows(IllegalArgumentException.class, () -> new Calculator(0));
+    }
+    
+    @Test
+    @DisplayName("Teste de byte[] ASCII - mesmo resultado que evaluate(String), com ou sem o Vector API")
+    void testAsciiBytesMatchString() {
+        Random random = new Random(11);
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < 300; i++) {
+            builder.append(random.nextInt((int) Math.pow(10, 1 + i % 9))).append('+');
+        }
+        String[] expressions = {
+            builder.toString(), "1+2+3", "0000000001+2", "2147483647+1", "1+2147483648", "99999999999",
+            "-5+10", "5++3", "1+2+a", "+++", "12345678+87654321+11111111+1"
+        };
+        for (String expression : expressions) {
+            byte[] bytes = ("9999" + expression + "9").getBytes(StandardCharsets.US_ASCII);
+            Integer expected;
+            try {
+                expected = calculator.evaluate(expression);
+            } catch (NumberFormatException e) {
+                expected = null;
+            }
+            
+            if (expected == null) {
+                assertThrows(NumberFormatException.class,
+                    () -> calculator.evaluateAscii(bytes, 4, expression.length()), expression);
+            } else {
+                assertEquals(expected.intValue(), calculator.evaluateAscii(bytes, 4, expression.length()), expression);
+            }
+        }
+    }
+    
+    @Test
+    @DisplayName("Teste de evaluateLong - soma em long sem estourar em int")
+    void testEvaluateLong() {
+        assertEquals(219L, calculator.evaluateLong("54+22+32+4+105+2"));
+        assertEquals(4294967294L, calculator.evaluateLong("2147483647+2147483647"));
+        assertEquals(Long.MAX_VALUE, calculator.evaluateLong("9223372036854775807"));
+        assertEquals(-10L, calculator.evaluateLong("-20+10+"));
+        assertEquals(0L, calculator.evaluateLong("+"));
+        
+        assertThrows(NumberFormatException.class, () -> calculator.evaluateLong(""));
+        assertThrows(NumberFormatException.class, () -> calculator.evaluateLong("5++3"));
+        assertThrows(NumberFormatException.class, () -> calculator.evaluateLong("5 + 3"));
+        assertThrows(NumberFormatException.class, () -> calculator.evaluateLong("9223372036854775808"));
+    }
+    
+    @Test
+    @DisplayName("Teste de evaluateExact - passa para BigInteger só quando long estoura")
+    void testEvaluateExact() {
+        assertEquals(BigInteger.valueOf(219), calculator.evaluateExact("54+22+32+4+105+2"));
+        assertEquals(BigInteger.valueOf(4294967294L), calculator.evaluateExact("2147483647+2147483647"));
+        assertEquals(new BigInteger("18446744073709551614"),
+            calculator.evaluateExact("9223372036854775807+9223372036854775807"));
+        assertEquals(new BigInteger("999999999999999999999999999999"),
+            calculator.evaluateExact("999999999999999999999999999999"));
+        assertEquals(new BigInteger("-9223372036854775809"),
+            calculator.evaluateExact("-9223372036854775808+-1"));
+        assertEquals(BigInteger.ZERO, calculator.evaluateExact("+++"));
+        
+        assertThrows(NumberFormatException.class, () -> calculator.evaluateExact(""));
+        assertThrows(NumberFormatException.class, () -> calculator.evaluateExact("9223372036854775807+1+x"));
+        assertThrows(NumberFormatException.class, () -> calculator.evaluateExact("1+-"));
+    }
 }
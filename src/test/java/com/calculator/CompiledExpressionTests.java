@@ -0,0 +1,199 @@
+package com.calculator;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+import com.vev.calculator.Calculator;
+import com.vev.calculator.CompiledExpression;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+
+public class CompiledExpressionTests {
+    
+    private Calculator calculator;
+    
+    @BeforeEach
+    void setUp() {
+        calculator = new Calculator();
+    }
+    
+    @Test
+    @DisplayName("Teste básico - operadores e precedência")
+    void testOperators() {
+        assertEquals(219, calculator.compile("54+22+32+4+105+2").evaluate());
+        assertEquals(2, calculator.compile("5-3").evaluate());
+        assertEquals(14, calculator.compile("2+3*4").evaluate());
+        assertEquals(20, calculator.compile("(2+3)*4").evaluate());
+        assertEquals(3, calculator.compile("10/3").evaluate());
+        assertEquals(1, calculator.compile("10-6-3").evaluate());
+        assertEquals(4, calculator.compile("64/4/4").evaluate());
+        assertEquals(-6, calculator.compile("-2*3").evaluate());
+        assertEquals(7, calculator.compile("--7").evaluate());
+        assertEquals(-5, calculator.compile(" 5 - ( 2 * 5 ) ").evaluate());
+        assertEquals(Integer.MIN_VALUE, calculator.compile("-2147483648").evaluate());
+    }
+    
+    @Test
+    @DisplayName("Teste de variáveis - mesma expressão avaliada com valores diferentes")
+    void testVariables() {
+        CompiledExpression expression = calculator.compile("price * quantity - discount + price");
+        
+        assertEquals(List.of("price", "quantity", "discount"), expression.variables());
+        assertEquals(1, expression.variableIndex("quantity"));
+        assertEquals(-1, expression.variableIndex("tax"));
+        
+        int[] values = new int[3];
+        for (int quantity = 0; quantity < 100; quantity++) {
+            values[0] = 7;
+            values[1] = quantity;
+            values[2] = quantity % 5;
+            assertEquals(7 * quantity - quantity % 5 + 7, expression.evaluate(values));
+        }
+        assertThrows(IllegalArgumentException.class, () -> expression.evaluate(new int[2]));
+    }
+    
+    @Test
+    @DisplayName("Teste de aritmética - estouro silencioso e divisão por zero")
+    void testArithmetic() {
+        assertEquals(Integer.MIN_VALUE, calculator.compile("2147483647+1").evaluate());
+        assertThrows(ArithmeticException.class, () -> calculator.compile("1/(2-2)").evaluate());
+        assertThrows(ArithmeticException.class, () -> calculator.compile("x/y").evaluate(new int[] {1, 0}));
+    }
+    
+    @Test
+    @DisplayName("Teste de valores inválidos - erros de sintaxe")
+    void testSyntaxErrors() {
+        String[] invalid = {"", "5+", "(5+10", "5+10)", "5 5", "5%10", "1.5", "2147483648", "*3", "()", "5+@"};
+        for (String expression : invalid) {
+            assertThrows(IllegalArgumentException.class, () -> calculator.compile(expression), expression);
+        }
+        assertThrows(NullPointerException.class, () -> calculator.compile(null));
+    }
+    
+    @Test
+    @DisplayName("Teste de colunas em paralelo - usa o ForkJoinPool do Calculator ou o informado")
+    void testColumnsParallelPool() {
+        int rows = 200_003;
+        int[][] columns = new int[2][rows];
+        for (int row = 0; row < rows; row++) {
+            columns[0][row] = row;
+            columns[1][row] = row % 7 - 3;
+        }
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            CompiledExpression expression = new Calculator(Calculator.DEFAULT_PARALLEL_THRESHOLD, pool).compile("a*b+1");
+            int[] expected = new int[rows];
+            int[] results = new int[rows];
+            int[] explicit = new int[rows];
+            expression.evaluate(columns, expected);
+            expression.evaluateParallel(columns, results);
+            expression.evaluateParallel(columns, explicit, ForkJoinPool.commonPool());
+            assertArrayEquals(expected, results);
+            assertArrayEquals(expected, explicit);
+            
+            // um pool encerrado recusa as tarefas: prova que ele é mesmo usado
+            ForkJoinPool closed = new ForkJoinPool(1);
+            closed.shutdown();
+            assertThrows(RejectedExecutionException.class, () -> expression.evaluateParallel(columns, results, closed));
+            CompiledExpression onClosed = new Calculator(Calculator.DEFAULT_PARALLEL_THRESHOLD, closed).compile("a*b+1");
+            assertThrows(RejectedExecutionException.class, () -> onClosed.evaluateParallel(columns, results));
+            assertThrows(RejectedExecutionException.class,
+                () -> onClosed.evaluateParallel(new long[2][rows], new long[rows]));
+        } finally {
+            pool.shutdown();
+        }
+    }
+    
+    @Test
+    @DisplayName("Teste de aninhamento - limite de profundidade em vez de estouro de pilha")
+    void testNestingLimit() {
+        assertEquals(7, calculator.compile("(".repeat(256) + "7" + ")".repeat(256)).evaluate());
+        assertEquals(7, calculator.compile("-".repeat(256) + "7").evaluate());
+        
+        IllegalArgumentException error = assertThrows(IllegalArgumentException.class,
+            () -> calculator.compile("(".repeat(100_000) + "1" + ")".repeat(100_000)));
+        assertTrue(error.getMessage().contains("at position 257"), error.getMessage().substring(0, 80));
+        assertThrows(IllegalArgumentException.class, () -> calculator.compile("-".repeat(100_000) + "x"));
+    }
+    
+    @Test
+    @DisplayName("Teste de compatibilidade - evaluate(String) continua aceitando apenas somas")
+    void testEvaluateUnchanged() {
+        assertEquals(15, calculator.evaluate("5+10"));
+        assertThrows(NumberFormatException.class, () -> calculator.evaluate("5-10"));
+        assertEquals(-5, calculator.compile("5-10").evaluate());
+    }
+    
+    @Test
+    @DisplayName("Teste de colunas - resultado igual à avaliação linha a linha")
+    void testColumns() {
+        String[] formulas = {"a+b", "(a*b-c)/(c+1)+a*2", "-a - -b * 3", "7*6", "c", "(1+2)*a"};
+        int rows = 2500;
+        int[][] columns = new int[3][rows];
+        long[][] longColumns = new long[3][rows];
+        for (int row = 0; row < rows; row++) {
+            for (int column = 0; column < 3; column++) {
+                columns[column][row] = (row * 31 + column * 17) % 1000 - 300 * column;
+                longColumns[column][row] = columns[column][row] * 3_000_000L;
+            }
+            columns[2][row] = Math.abs(columns[2][row]);
+            longColumns[2][row] = Math.abs(longColumns[2][row]);
+        }
+        for (String formula : formulas) {
+            CompiledExpression expression = calculator.compile(formula);
+            int[][] input = new int[expression.variables().size()][];
+            long[][] longInput = new long[input.length][];
+            for (int i = 0; i < input.length; i++) {
+                int column = expression.variables().get(i).charAt(0) - 'a';
+                input[i] = columns[column];
+                longInput[i] = longColumns[column];
+            }
+            int[] results = new int[rows];
+            int[] parallelResults = new int[rows];
+            long[] longResults = new long[rows];
+            expression.evaluate(input, results);
+            expression.evaluateParallel(input, parallelResults);
+            expression.evaluate(longInput, longResults);
+            
+            int[] values = new int[input.length];
+            for (int row = 0; row < rows; row++) {
+                for (int i = 0; i < values.length; i++) {
+                    values[i] = input[i][row];
+                }
+                assertEquals(expression.evaluate(values), results[row], formula);
+            }
+            assertArrayEquals(results, parallelResults, formula);
+            
+            long[] longValues = new long[rows];
+            for (int row = 0; row < rows; row++) {
+                long a = longColumns[0][row], b = longColumns[1][row], c = longColumns[2][row];
+                longValues[row] = switch (formula) {
+                    case "a+b" -> a + b;
+                    case "(a*b-c)/(c+1)+a*2" -> (a * b - c) / (c + 1) + a * 2;
+                    case "-a - -b * 3" -> -a - -b * 3;
+                    case "7*6" -> 42;
+                    case "c" -> c;
+                    default -> 3 * a;
+                };
+            }
+            assertArrayEquals(longValues, longResults, formula);
+        }
+    }
+    
+    @Test
+    @DisplayName("Teste de colunas inválidas - colunas faltando ou curtas")
+    void testInvalidColumns() {
+        CompiledExpression expression = calculator.compile("x/y");
+        int[] results = new int[4];
+        
+        assertThrows(IllegalArgumentException.class, () -> expression.evaluate(new int[1][4], results));
+        assertThrows(IllegalArgumentException.class, () -> expression.evaluate(new int[][] {{1, 2, 3, 4}, {1, 2}}, results));
+        assertThrows(ArithmeticException.class, () -> expression.evaluate(new int[][] {{1, 2, 3, 4}, {1, 1, 0, 1}}, results));
+        assertThrows(ArithmeticException.class, () -> calculator.compile("1/0").evaluate(new long[0][], new long[1]));
+        
+        calculator.compile("1/0").evaluate(new int[0][], new int[0]);
+    }
+}
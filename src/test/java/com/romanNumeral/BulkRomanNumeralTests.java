@@ -0,0 +1,129 @@
+package com.romanNumeral;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+import com.vev.romanNumeral.BulkRomanNumeral;
+import com.vev.romanNumeral.RomanNumeral;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+public class BulkRomanNumeralTests {
+    
+    private BulkRomanNumeral bulk;
+    private RomanNumeral romanNumeral;
+    
+    @BeforeEach
+    void setUp() {
+        bulk = new BulkRomanNumeral();
+        romanNumeral = new RomanNumeral();
+    }
+    
+    @Test
+    @DisplayName("Teste básico - um numeral por linha")
+    void testLines() throws IOException {
+        String input = "XIV\nMCMXCIV\r\n\nIIII\nMMMCMXCIX\n";
+        int[] expected = {14, 1994, 0, 4, 3999};
+        
+        List<Integer> results = new ArrayList<>();
+        assertEquals(5, bulk.convertAll(ascii(input), results::add));
+        assertEquals(expected.length, results.size());
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i], (int) results.get(i));
+        }
+        
+        assertArrayEquals(expected, bulk.stream(ascii(input)).toArray());
+        assertArrayEquals(expected, bulk.stream(new ByteArrayInputStream(input.getBytes(StandardCharsets.US_ASCII))).toArray());
+        
+        results.clear();
+        assertEquals(5, bulk.convertAll(new ByteArrayInputStream(input.getBytes(StandardCharsets.US_ASCII)), results::add));
+        assertEquals(3999, (int) results.get(4));
+        
+        // sem delimitador no fim
+        assertArrayEquals(new int[] {1, 2}, bulk.stream(ascii("I\nII")).toArray());
+        assertArrayEquals(new int[0], bulk.stream(ascii("")).toArray());
+    }
+    
+    @Test
+    @DisplayName("Teste de delimitador - registros separados por vírgula")
+    void testDelimiter() {
+        BulkRomanNumeral csv = new BulkRomanNumeral((byte) ',');
+        ByteBuffer buffer = ascii("header,X,IX,XL");
+        buffer.position(7);
+        
+        assertArrayEquals(new int[] {10, 9, 40}, csv.stream(buffer).toArray());
+        assertEquals(7, buffer.position());
+        
+        assertThrows(IllegalArgumentException.class, () -> new BulkRomanNumeral((byte) 'X'));
+        assertThrows(IllegalArgumentException.class, () -> new BulkRomanNumeral((byte) '\r'));
+    }
+    
+    @Test
+    @DisplayName("Teste de valores inválidos - posição do registro na mensagem")
+    void testInvalidRecord() {
+        List<Integer> results = new ArrayList<>();
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> bulk.convertAll(ascii("X\nV\nXAX\nI"), results::add));
+        assertTrue(e.getMessage().startsWith("Record at byte 4:"), e.getMessage());
+        assertEquals(2, results.size());
+        
+        assertThrows(IllegalArgumentException.class, () -> bulk.stream(ascii("x")).sum());
+    }
+    
+    @Test
+    @DisplayName("Teste de stream - registro maior que o buffer de leitura")
+    void testLongRecordFromStream() throws IOException {
+        String input = "X\n" + "I".repeat(100_000) + "\nV";
+        // entrega poucos bytes por leitura
+        InputStream in = new ByteArrayInputStream(input.getBytes(StandardCharsets.US_ASCII)) {
+            @Override
+            public synchronized int read(byte[] b, int off, int len) {
+                return super.read(b, off, Math.min(len, 1000));
+            }
+        };
+        
+        assertArrayEquals(new int[] {10, 100_000, 5}, bulk.stream(in).toArray());
+    }
+    
+    @Test
+    @DisplayName("Teste de stream - erro de leitura")
+    void testReadError() {
+        InputStream in = new InputStream() {
+            @Override
+            public int read() throws IOException {
+                throw new IOException("disk");
+            }
+        };
+        
+        assertThrows(IOException.class, () -> bulk.convertAll(in, value -> { }));
+        assertThrows(UncheckedIOException.class, () -> bulk.stream(in).sum());
+    }
+    
+    @Test
+    @DisplayName("Teste de stream paralelo - mesma ordem e resultado do sequencial")
+    void testParallelStream() {
+        StringBuilder sb = new StringBuilder();
+        int[] expected = new int[50_000];
+        for (int i = 0; i < expected.length; i++) {
+            expected[i] = i % 3999 + 1;
+            sb.append(romanNumeral.toRoman(expected[i])).append(i % 2 == 0 ? "\n" : "\r\n");
+        }
+        ByteBuffer buffer = ByteBuffer.allocateDirect(sb.length());
+        buffer.put(sb.toString().getBytes(StandardCharsets.US_ASCII)).flip();
+        
+        assertArrayEquals(expected, bulk.stream(buffer).parallel().toArray());
+        assertEquals(bulk.stream(buffer).asLongStream().sum(), bulk.stream(buffer).parallel().asLongStream().sum());
+    }
+    
+    private static ByteBuffer ascii(String s) {
+        return ByteBuffer.wrap(s.getBytes(StandardCharsets.US_ASCII));
+    }
+}
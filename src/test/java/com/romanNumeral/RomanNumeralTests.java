@@ -4,8 +4,16 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import static org.junit.jupiter.api.Assertions.*;
+import com.vev.romanNumeral.InvalidRomanNumeralException;
 import com.vev.romanNumeral.RomanNumeral;
 
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 public class RomanNumeralTests {
     
     private RomanNumeral romanNumeral;
@@ -164,4 +172,138 @@ public class RomanNumeralTests {
         assertEquals(490, romanNumeral.convert("XD"));     // X antes de D = 500-10 = 490
         assertEquals(990, romanNumeral.convert("XM"));     // X antes de M = 1000-10 = 990
     }
+    
+    @Test
+    @DisplayName("Teste de valores inválidos - caracteres fora do ASCII")
+    void testNonAsciiCharacters() {
+        assertThrows(IllegalArgumentException.class, () -> romanNumeral.convert("Ⅻ"));
+        assertThrows(IllegalArgumentException.class, () -> romanNumeral.convert("XÍV"));
+        assertThrows(IllegalArgumentException.class, () -> romanNumeral.convert("\u0000"));
+    }
+    
+    @Test
+    @DisplayName("Teste de equivalência - mesmo resultado da implementação com HashMap")
+    void testMatchesMapImplementation() {
+        Map<Character, Integer> map = Map.of('I', 1, 'V', 5, 'X', 10, 'L', 50, 'C', 100, 'D', 500, 'M', 1000);
+        char[] digits = {'I', 'V', 'X', 'L', 'C', 'D', 'M'};
+        // todas as combinações de até 4 algarismos, válidas ou não
+        for (int length = 1; length <= 4; length++) {
+            int combinations = (int) Math.pow(digits.length, length);
+            for (int n = 0; n < combinations; n++) {
+                char[] chars = new char[length];
+                for (int i = 0, rest = n; i < length; i++, rest /= digits.length) {
+                    chars[i] = digits[rest % digits.length];
+                }
+                String s = new String(chars);
+                
+                int expected = 0;
+                for (int i = 0; i < s.length(); i++) {
+                    int current = map.get(s.charAt(i));
+                    int next = i + 1 < s.length() ? map.get(s.charAt(i + 1)) : 0;
+                    expected += current >= next ? current : -current;
+                }
+                assertEquals(expected, romanNumeral.convert(s), s);
+            }
+        }
+    }
+    
+    @Test
+    @DisplayName("Teste de conversão para romano - ida e volta de 1 a 3999")
+    void testToRoman() throws IOException {
+        assertEquals("I", romanNumeral.toRoman(1));
+        assertEquals("XIV", romanNumeral.toRoman(14));
+        assertEquals("XLIX", romanNumeral.toRoman(49));
+        assertEquals("MCMXCIV", romanNumeral.toRoman(1994));
+        assertEquals("MMMCMXCIX", romanNumeral.toRoman(3999));
+        
+        for (int n = 1; n <= 3999; n++) {
+            String roman = romanNumeral.toRoman(n);
+            assertEquals(n, romanNumeral.convert(roman));
+            assertSame(roman, romanNumeral.toRoman(n));
+        }
+        
+        StringBuilder sb = new StringBuilder("Ano ");
+        assertSame(sb, romanNumeral.appendTo(sb, 2024));
+        assertEquals("Ano MMXXIV", sb.toString());
+        
+        StringWriter writer = new StringWriter();
+        romanNumeral.appendTo(writer, 44).append(',');
+        romanNumeral.appendTo(writer, 9);
+        assertEquals("XLIV,IX", writer.toString());
+    }
+    
+    @Test
+    @DisplayName("Teste de conversão para romano - valores fora do intervalo")
+    void testToRomanOutOfRange() {
+        assertThrows(IllegalArgumentException.class, () -> romanNumeral.toRoman(0));
+        assertThrows(IllegalArgumentException.class, () -> romanNumeral.toRoman(-1));
+        assertThrows(IllegalArgumentException.class, () -> romanNumeral.toRoman(4000));
+        assertThrows(IllegalArgumentException.class, () -> romanNumeral.appendTo(new StringBuilder(), 4000));
+        assertThrows(IllegalArgumentException.class, () -> romanNumeral.appendTo(new StringWriter(), 0));
+    }
+    
+    @Test
+    @DisplayName("Teste de conversão estrita - todas as formas canônicas")
+    void testConvertStrict() {
+        assertEquals(1994, romanNumeral.convertStrict("MCMXCIV"));
+        assertEquals(3888, romanNumeral.convertStrict("MMMDCCCLXXXVIII"));
+        for (int n = 1; n <= 3999; n++) {
+            assertEquals(n, romanNumeral.convertStrict(romanNumeral.toRoman(n)));
+        }
+    }
+    
+    @Test
+    @DisplayName("Teste de conversão estrita - formas inválidas e posição do erro")
+    void testConvertStrictInvalid() {
+        String[] invalid = {"IIII", "VX", "IM", "IL", "XM", "MMMM", "VV", "DD", "IVI", "IXI", "XCX", "CMD", "IIV", "VIV", "LXL", "i", "Ⅻ", "X I"};
+        int[] positions = {3, 1, 1, 1, 1, 3, 1, 1, 2, 2, 2, 2, 2, 2, 2, 0, 0, 1};
+        for (int i = 0; i < invalid.length; i++) {
+            String s = invalid[i];
+            InvalidRomanNumeralException e = assertThrows(InvalidRomanNumeralException.class, () -> romanNumeral.convertStrict(s), s);
+            assertEquals(positions[i], e.getPosition(), s);
+        }
+        assertEquals(0, assertThrows(InvalidRomanNumeralException.class, () -> romanNumeral.convertStrict("")).getPosition());
+        assertThrows(IllegalArgumentException.class, () -> romanNumeral.convertStrict("A"));
+        assertThrows(NullPointerException.class, () -> romanNumeral.convertStrict(null));
+        
+        // convert continua aceitando as formas não canônicas
+        assertEquals(4, romanNumeral.convert("IIII"));
+    }
+    
+    @Test
+    @DisplayName("Teste de conversão estrita - só aceita o que toRoman gera")
+    void testConvertStrictMatchesToRoman() {
+        char[] digits = {'I', 'V', 'X', 'L', 'C', 'D', 'M'};
+        Set<String> canonical = new HashSet<>();
+        for (int n = 1; n <= 3999; n++) {
+            canonical.add(romanNumeral.toRoman(n));
+        }
+        for (int length = 1; length <= 5; length++) {
+            int combinations = (int) Math.pow(digits.length, length);
+            for (int n = 0; n < combinations; n++) {
+                char[] chars = new char[length];
+                for (int i = 0, rest = n; i < length; i++, rest /= digits.length) {
+                    chars[i] = digits[rest % digits.length];
+                }
+                String s = new String(chars);
+                if (canonical.contains(s)) {
+                    assertEquals(romanNumeral.convert(s), romanNumeral.convertStrict(s), s);
+                } else {
+                    assertThrows(InvalidRomanNumeralException.class, () -> romanNumeral.convertStrict(s), s);
+                }
+            }
+        }
+    }
+    
+    @Test
+    @DisplayName("Teste de conversão em lote - arrays e listas")
+    void testConvertAll() {
+        assertArrayEquals(new int[] {14, 1994, 0, 4}, romanNumeral.convertAll(new String[] {"XIV", "MCMXCIV", "", "IIII"}));
+        assertArrayEquals(new int[] {9, 40}, romanNumeral.convertAll(List.of(new StringBuilder("IX"), "XL")));
+        assertArrayEquals(new int[0], romanNumeral.convertAll(new String[0]));
+        
+        assertThrows(IllegalArgumentException.class, () -> romanNumeral.convertAll(new String[] {"X", "A"}));
+        assertThrows(IllegalArgumentException.class, () -> romanNumeral.convertAll(List.of(new StringBuilder("x"))));
+        assertThrows(NullPointerException.class, () -> romanNumeral.convertAll(new String[] {"X", null}));
+    }
 }